@@ -0,0 +1,60 @@
+package com.stepin.jobopening.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of eligibility calls in flight against the Campaign Service so
+ * that a slow dependency cannot tie up every request thread.
+ */
+@Component
+public class CampaignServiceBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public CampaignServiceBulkhead(
+            @Value("${campaign-service.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            MeterRegistry meterRegistry) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejectedCounter = Counter.builder("campaign.bulkhead.rejections")
+                .description("Campaign Service calls rejected because the bulkhead was full")
+                .register(meterRegistry);
+
+        Gauge.builder("campaign.bulkhead.in-flight", this, CampaignServiceBulkhead::inFlight)
+                .description("Campaign Service calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tries to reserve a slot without waiting.
+     *
+     * @return true if the call may proceed; the caller must then call {@link #release()}
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,153 @@
+package com.stepin.jobopening.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding calls to the Campaign Service.
+ * <p>
+ * After {@code failureThreshold} consecutive failures the circuit opens and calls
+ * are rejected without touching the network. Once {@code openDuration} has elapsed
+ * a limited number of probe calls are let through (half-open); a successful probe
+ * closes the circuit again, a failed one re-opens it.
+ */
+@Component
+public class CampaignServiceCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CampaignServiceCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenMaxCalls;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private long openedAt;
+
+    @Autowired
+    public CampaignServiceCircuitBreaker(
+            @Value("${campaign-service.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${campaign-service.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${campaign-service.circuit-breaker.half-open-max-calls:1}") int halfOpenMaxCalls,
+            MeterRegistry meterRegistry) {
+        this(failureThreshold, openDuration, halfOpenMaxCalls, meterRegistry, System::nanoTime);
+    }
+
+    CampaignServiceCircuitBreaker(int failureThreshold, Duration openDuration, int halfOpenMaxCalls,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("campaign.circuit.rejections")
+                .description("Campaign Service calls rejected because the circuit was open")
+                .register(meterRegistry);
+
+        for (State candidate : State.values()) {
+            Gauge.builder("campaign.circuit.state", this, breaker -> breaker.getState() == candidate ? 1 : 0)
+                    .description("1 for the current Campaign Service circuit state, 0 otherwise")
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Asks for permission to call the Campaign Service. Every granted permission
+     * must be followed by exactly one of {@link #onSuccess()}, {@link #onFailure()}
+     * or {@link #releasePermission()}.
+     *
+     * @return true if the call may proceed
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenCalls < halfOpenMaxCalls) {
+                    halfOpenCalls++;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns a permission that ended without an outcome, e.g. a cancelled call.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenCalls > 0) {
+            halfOpenCalls--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(State newState) {
+        logger.warn("Campaign Service circuit breaker transition: {} -> {}", state, newState);
+
+        meterRegistry.counter("campaign.circuit.transitions",
+                "from", state.name().toLowerCase(), "to", newState.name().toLowerCase()).increment();
+
+        state = newState;
+        halfOpenCalls = 0;
+        if (newState == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        } else if (newState == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+    }
+}
@@ -1,16 +1,31 @@
 package com.stepin.jobopening.client;
 
+import com.stepin.jobopening.dto.EligibilityBatchItem;
 import com.stepin.jobopening.dto.EligibilityResponse;
 import com.stepin.jobopening.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 @Component
 public class CampaignServiceClient {
@@ -19,41 +34,282 @@ public class CampaignServiceClient {
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
 
     private final WebClient webClient;
+    private final EligibilityCache eligibilityCache;
+    private final CampaignServiceCircuitBreaker circuitBreaker;
+    private final CampaignServiceBulkhead bulkhead;
+    private final ConcurrentMap<EligibilityKey, Mono<EligibilityResponse>> inFlightRequests =
+            new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    private final Counter staleFallbackCounter;
+    private final AtomicBoolean batchEndpointAvailable;
+    private final int batchMaxSize;
+    private final int fallbackParallelism;
 
-    public CampaignServiceClient(WebClient webClient) {
+    public CampaignServiceClient(WebClient webClient, EligibilityCache eligibilityCache,
+            CampaignServiceCircuitBreaker circuitBreaker, CampaignServiceBulkhead bulkhead,
+            MeterRegistry meterRegistry,
+            @Value("${campaign-service.batch.enabled:true}") boolean batchEnabled,
+            @Value("${campaign-service.batch.max-size:100}") int batchMaxSize,
+            @Value("${campaign-service.batch.fallback-parallelism:4}") int fallbackParallelism) {
         this.webClient = webClient;
+        this.eligibilityCache = eligibilityCache;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.batchEndpointAvailable = new AtomicBoolean(batchEnabled);
+        this.batchMaxSize = batchMaxSize;
+        this.fallbackParallelism = fallbackParallelism;
+        this.coalescedCounter = Counter.builder("campaign.eligibility.coalesced")
+                .description("Eligibility lookups that joined an already in-flight request")
+                .register(meterRegistry);
+        this.staleFallbackCounter = Counter.builder("campaign.eligibility.stale-fallbacks")
+                .description("Eligibility lookups answered from the last known-good decision")
+                .register(meterRegistry);
     }
 
     public EligibilityResponse checkEligibility(UUID campaignId, UUID companyId) {
-        String uri = String.format("/campaigns/%s/companies/%s/eligibility", campaignId, companyId);
+        return checkEligibilityAsync(campaignId, companyId).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #checkEligibility(UUID, UUID)}. Failures are
+     * mapped to the same BusinessException messages as the blocking call.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @return a Mono emitting the eligibility decision
+     */
+    public Mono<EligibilityResponse> checkEligibilityAsync(UUID campaignId, UUID companyId) {
+        return Mono.defer(() -> {
+            EligibilityResponse cached = eligibilityCache.get(campaignId, companyId);
+            if (cached != null) {
+                logger.debug("Eligibility cache hit for campaignId={}, companyId={}", campaignId, companyId);
+                return Mono.just(cached);
+            }
+
+            logger.debug("Checking eligibility for campaignId={}, companyId={}", campaignId, companyId);
+
+            return sharedRequest(new EligibilityKey(campaignId, companyId))
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty eligibility response")))
+                    .doOnNext(response -> logger.debug("Eligibility check result: canMutateJobs={}, reason={}",
+                            response.isCanMutateJobs(), response.getReason()))
+                    .onErrorResume(CampaignServiceClient::isServiceFailure,
+                            e -> staleFallback(campaignId, companyId, e))
+                    .onErrorMap(e -> !(e instanceof BusinessException),
+                            e -> toBusinessException(campaignId, companyId, e));
+        });
+    }
+
+    /**
+     * Resolves eligibility for several campaign/company pairs at once. Cached
+     * decisions are served locally; the rest are fetched in one round trip from the
+     * Campaign Service batch endpoint, or through bounded-parallel individual
+     * lookups if the remote side does not offer one.
+     * <p>
+     * A pair whose lookup fails is reported as not eligible, with the message the
+     * single-pair call would have raised as its reason.
+     *
+     * @param keys the campaign/company pairs to resolve
+     * @return decisions keyed by pair, in the iteration order of {@code keys}
+     */
+    public Map<EligibilityKey, EligibilityResponse> checkEligibilityBatch(Collection<EligibilityKey> keys) {
+        return checkEligibilityBatchAsync(keys).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #checkEligibilityBatch(Collection)}.
+     *
+     * @param keys the campaign/company pairs to resolve
+     * @return a Mono emitting decisions keyed by pair
+     */
+    public Mono<Map<EligibilityKey, EligibilityResponse>> checkEligibilityBatchAsync(Collection<EligibilityKey> keys) {
+        return Mono.defer(() -> {
+            Map<EligibilityKey, EligibilityResponse> results = new LinkedHashMap<>();
+            List<EligibilityKey> misses = new ArrayList<>();
+            for (EligibilityKey key : new LinkedHashSet<>(keys)) {
+                EligibilityResponse cached = eligibilityCache.get(key.campaignId(), key.companyId());
+                results.put(key, cached);
+                if (cached == null) {
+                    misses.add(key);
+                }
+            }
+
+            logger.debug("Resolving eligibility for {} pairs, {} served from cache", results.size(),
+                    results.size() - misses.size());
+
+            return Flux.fromIterable(partition(misses, batchMaxSize))
+                    .concatMap(this::fetchBatch)
+                    .doOnNext(results::putAll)
+                    .then(Mono.fromSupplier(() -> results));
+        });
+    }
+
+    private Mono<Map<EligibilityKey, EligibilityResponse>> fetchBatch(List<EligibilityKey> keys) {
+        if (!batchEndpointAvailable.get()) {
+            return fetchIndividually(keys);
+        }
 
-        logger.debug("Checking eligibility for campaignId={}, companyId={}", campaignId, companyId);
+        return guarded(() -> webClient.post()
+                .uri("/eligibility/batch")
+                .bodyValue(keys)
+                .retrieve()
+                .bodyToFlux(EligibilityBatchItem.class)
+                .collectList()
+                .timeout(REQUEST_TIMEOUT))
+                .flatMap(items -> {
+                    Map<EligibilityKey, EligibilityResponse> resolved = new LinkedHashMap<>();
+                    for (EligibilityBatchItem item : items) {
+                        EligibilityResponse response = new EligibilityResponse(item.isCanMutateJobs(), item.getReason());
+                        eligibilityCache.put(item.getCampaignId(), item.getCompanyId(), response);
+                        resolved.put(new EligibilityKey(item.getCampaignId(), item.getCompanyId()), response);
+                    }
+
+                    List<EligibilityKey> unanswered = keys.stream()
+                            .filter(key -> !resolved.containsKey(key))
+                            .toList();
+                    if (unanswered.isEmpty()) {
+                        return Mono.just(resolved);
+                    }
+                    return fetchIndividually(unanswered).map(rest -> {
+                        resolved.putAll(rest);
+                        return resolved;
+                    });
+                })
+                .onErrorResume(CampaignServiceClient::isBatchUnsupported, e -> {
+                    logger.info("Campaign Service has no batch eligibility endpoint ({}), using individual lookups",
+                            e.getMessage());
+                    batchEndpointAvailable.set(false);
+                    return fetchIndividually(keys);
+                })
+                .onErrorResume(e -> {
+                    logger.warn("Batch eligibility request failed ({}), using individual lookups", e.getMessage());
+                    return fetchIndividually(keys);
+                });
+    }
 
-        try {
-            EligibilityResponse response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(EligibilityResponse.class)
-                    .timeout(REQUEST_TIMEOUT)
-                    .block();
+    private Mono<Map<EligibilityKey, EligibilityResponse>> fetchIndividually(List<EligibilityKey> keys) {
+        return Flux.fromIterable(keys)
+                .flatMap(key -> checkEligibilityAsync(key.campaignId(), key.companyId())
+                        .onErrorResume(BusinessException.class,
+                                e -> Mono.just(new EligibilityResponse(false, e.getMessage())))
+                        .map(response -> Map.entry(key, response)), fallbackParallelism)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
 
-            logger.debug("Eligibility check result: canMutateJobs={}, reason={}",
-                    response.isCanMutateJobs(), response.getReason());
+    private static boolean isBatchUnsupported(Throwable e) {
+        return e instanceof WebClientResponseException.NotFound
+                || e instanceof WebClientResponseException.MethodNotAllowed
+                || e instanceof WebClientResponseException.NotImplemented;
+    }
 
-            return response;
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return chunks;
+    }
 
-        } catch (WebClientResponseException.NotFound e) {
+    private Mono<EligibilityResponse> staleFallback(UUID campaignId, UUID companyId, Throwable e) {
+        EligibilityResponse stale = eligibilityCache.getLastKnownGood(campaignId, companyId);
+        if (stale == null) {
+            return Mono.error(e);
+        }
+
+        logger.warn("Campaign Service unavailable ({}), using last known-good decision for campaignId={}, companyId={}",
+                e.getMessage(), campaignId, companyId);
+        staleFallbackCounter.increment();
+        return Mono.just(stale);
+    }
+
+    /**
+     * A 4xx response is a valid answer from a healthy Campaign Service; everything
+     * else (5xx, timeouts, connection errors, rejected calls) counts as a failure.
+     */
+    private static boolean isServiceFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return !responseException.getStatusCode().is4xxClientError();
+        }
+        return true;
+    }
+
+    private BusinessException toBusinessException(UUID campaignId, UUID companyId, Throwable e) {
+        if (e instanceof WebClientResponseException.NotFound) {
             logger.error("Campaign or company not found: campaignId={}, companyId={}", campaignId, companyId);
-            throw new BusinessException("Campaign not found or company not invited");
+            return new BusinessException("Campaign not found or company not invited");
+        }
 
-        } catch (WebClientResponseException e) {
+        if (e instanceof WebClientResponseException responseException) {
             logger.error("HTTP error from Campaign Service: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Failed to check eligibility: " + e.getMessage());
+                    responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            return new BusinessException("Failed to check eligibility: " + e.getMessage());
+        }
+
+        logger.error("Error calling Campaign Service: {}", e.getMessage(), e);
+        return new BusinessException("Failed to communicate with Campaign Service: " + e.getMessage());
+    }
 
-        } catch (Exception e) {
-            logger.error("Error calling Campaign Service: {}", e.getMessage(), e);
-            throw new BusinessException("Failed to communicate with Campaign Service: " + e.getMessage());
+    /**
+     * Returns the outstanding request for a key, starting one if none is in flight.
+     * Concurrent callers for the same campaign and company share a single HTTP call
+     * and all observe its result or error. The entry is removed before the result is
+     * delivered, so a caller arriving after completion starts a new call instead of
+     * replaying the finished one.
+     */
+    private Mono<EligibilityResponse> sharedRequest(EligibilityKey key) {
+        Mono<EligibilityResponse> pending = inFlightRequests.get(key);
+        if (pending != null) {
+            coalescedCounter.increment();
+            return pending;
         }
+
+        Mono<EligibilityResponse> request = guarded(() -> fetch(key))
+                .doOnNext(response -> eligibilityCache.put(key.campaignId(), key.companyId(), response))
+                .doOnTerminate(() -> inFlightRequests.remove(key))
+                .doOnCancel(() -> inFlightRequests.remove(key))
+                .cache();
+
+        pending = inFlightRequests.putIfAbsent(key, request);
+        if (pending != null) {
+            coalescedCounter.increment();
+            return pending;
+        }
+        return request;
+    }
+
+    /**
+     * Runs an HTTP call through the circuit breaker and the bulkhead.
+     */
+    private <T> Mono<T> guarded(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new CampaignServiceUnavailableException("Circuit breaker is open"));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                return Mono.error(new CampaignServiceUnavailableException("Too many concurrent eligibility checks"));
+            }
+
+            return call.get()
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isServiceFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private Mono<EligibilityResponse> fetch(EligibilityKey key) {
+        String uri = String.format("/campaigns/%s/companies/%s/eligibility", key.campaignId(), key.companyId());
+
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(EligibilityResponse.class)
+                .timeout(REQUEST_TIMEOUT);
     }
 }
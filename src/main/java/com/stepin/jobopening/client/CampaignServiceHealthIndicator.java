@@ -0,0 +1,32 @@
+package com.stepin.jobopening.client;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the Campaign Service circuit breaker and bulkhead under
+ * {@code /actuator/health}. An open circuit only degrades mutations, so the
+ * indicator stays UP and exposes the state as details.
+ */
+@Component
+public class CampaignServiceHealthIndicator implements HealthIndicator {
+
+    private final CampaignServiceCircuitBreaker circuitBreaker;
+    private final CampaignServiceBulkhead bulkhead;
+
+    public CampaignServiceHealthIndicator(CampaignServiceCircuitBreaker circuitBreaker,
+            CampaignServiceBulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("circuitState", circuitBreaker.getState())
+                .withDetail("bulkheadInFlight", bulkhead.inFlight())
+                .withDetail("bulkheadMaxConcurrentCalls", bulkhead.getMaxConcurrentCalls())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.stepin.jobopening.client;
+
+/**
+ * Raised when a Campaign Service call is not attempted because the circuit
+ * breaker is open or the bulkhead is full.
+ */
+public class CampaignServiceUnavailableException extends RuntimeException {
+    public CampaignServiceUnavailableException(String message) {
+        super(message);
+    }
+}
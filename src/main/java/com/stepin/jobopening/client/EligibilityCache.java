@@ -0,0 +1,197 @@
+package com.stepin.jobopening.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.stepin.jobopening.dto.EligibilityResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of eligibility decisions returned by the Campaign Service.
+ * Negative decisions (canMutateJobs=false) use a shorter TTL so that a company
+ * becomes eligible again quickly once the campaign side changes.
+ * <p>
+ * Independently of the TTL cache, the last known-good decision per pair can be
+ * retained for a longer staleness window and served when the Campaign Service is
+ * unavailable.
+ */
+@Component
+public class EligibilityCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EligibilityCache.class);
+
+    static final String CACHE_NAME = "campaignEligibility";
+
+    private final boolean enabled;
+    private final Cache<EligibilityKey, EligibilityResponse> cache;
+    private final Cache<EligibilityKey, EligibilityResponse> lastKnownGood;
+
+    @Autowired
+    public EligibilityCache(
+            @Value("${campaign-service.eligibility-cache.enabled:true}") boolean enabled,
+            @Value("${campaign-service.eligibility-cache.maximum-size:10000}") long maximumSize,
+            @Value("${campaign-service.eligibility-cache.ttl:60s}") Duration ttl,
+            @Value("${campaign-service.eligibility-cache.negative-ttl:10s}") Duration negativeTtl,
+            @Value("${campaign-service.eligibility-cache.stale-fallback.enabled:false}") boolean staleFallbackEnabled,
+            @Value("${campaign-service.eligibility-cache.stale-fallback.staleness-window:10m}") Duration stalenessWindow,
+            MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, ttl, negativeTtl, staleFallbackEnabled, stalenessWindow, meterRegistry,
+                Ticker.systemTicker());
+    }
+
+    EligibilityCache(boolean enabled, long maximumSize, Duration ttl, Duration negativeTtl,
+            boolean staleFallbackEnabled, Duration stalenessWindow, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DecisionExpiry(ttl, negativeTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.lastKnownGood = staleFallbackEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(stalenessWindow)
+                        .ticker(ticker)
+                        .build()
+                : null;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached decision for a campaign and company, if any.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @return the cached EligibilityResponse, or null if absent or expired
+     */
+    public EligibilityResponse get(UUID campaignId, UUID companyId) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(new EligibilityKey(campaignId, companyId));
+    }
+
+    /**
+     * Stores a decision returned by the Campaign Service.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param response   the eligibility decision
+     */
+    public void put(UUID campaignId, UUID companyId, EligibilityResponse response) {
+        if (response == null) {
+            return;
+        }
+        EligibilityKey key = new EligibilityKey(campaignId, companyId);
+        if (enabled) {
+            cache.put(key, response);
+        }
+        if (lastKnownGood != null) {
+            lastKnownGood.put(key, response);
+        }
+    }
+
+    /**
+     * Returns the last decision successfully obtained for a campaign and company,
+     * provided it is still within the staleness window.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @return the last known-good EligibilityResponse, or null if stale fallback is
+     *         disabled or no recent decision exists
+     */
+    public EligibilityResponse getLastKnownGood(UUID campaignId, UUID companyId) {
+        if (lastKnownGood == null) {
+            return null;
+        }
+        return lastKnownGood.getIfPresent(new EligibilityKey(campaignId, companyId));
+    }
+
+    /**
+     * Evicts the decision for a single campaign and company.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     */
+    public void evict(UUID campaignId, UUID companyId) {
+        EligibilityKey key = new EligibilityKey(campaignId, companyId);
+        cache.invalidate(key);
+        if (lastKnownGood != null) {
+            lastKnownGood.invalidate(key);
+        }
+        logger.info("Evicted eligibility decision for campaignId={}, companyId={}", campaignId, companyId);
+    }
+
+    /**
+     * Evicts all decisions for a campaign.
+     *
+     * @param campaignId the campaign UUID
+     */
+    public void evictCampaign(UUID campaignId) {
+        cache.asMap().keySet().removeIf(key -> key.campaignId().equals(campaignId));
+        if (lastKnownGood != null) {
+            lastKnownGood.asMap().keySet().removeIf(key -> key.campaignId().equals(campaignId));
+        }
+        logger.info("Evicted eligibility decisions for campaignId={}", campaignId);
+    }
+
+    /**
+     * Evicts every cached decision.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        if (lastKnownGood != null) {
+            lastKnownGood.invalidateAll();
+        }
+        logger.info("Evicted all eligibility decisions");
+    }
+
+    /**
+     * Returns the approximate number of cached decisions.
+     *
+     * @return the estimated cache size
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static final class DecisionExpiry implements Expiry<EligibilityKey, EligibilityResponse> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private DecisionExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(EligibilityKey key, EligibilityResponse value, long currentTime) {
+            return value.isCanMutateJobs() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(EligibilityKey key, EligibilityResponse value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(EligibilityKey key, EligibilityResponse value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
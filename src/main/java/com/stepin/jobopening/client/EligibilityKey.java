@@ -0,0 +1,12 @@
+package com.stepin.jobopening.client;
+
+import java.util.UUID;
+
+/**
+ * Identifies an eligibility decision: one company within one campaign.
+ *
+ * @param campaignId the campaign UUID
+ * @param companyId  the company UUID
+ */
+public record EligibilityKey(UUID campaignId, UUID companyId) {
+}
@@ -42,7 +42,9 @@ public class CorsConfig {
             Arrays.asList(
                 "Authorization",
                 "Content-Type",
-                "Content-Disposition"
+                "Content-Disposition",
+                "X-Next-Cursor",
+                "ETag"
             )
         );
 
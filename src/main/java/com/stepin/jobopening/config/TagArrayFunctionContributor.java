@@ -0,0 +1,31 @@
+package com.stepin.jobopening.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL array operators used by the tag filters as HQL/Criteria
+ * functions. Tags are passed as one comma-separated string, which normalized tags
+ * can never contain, so no array parameter has to be bound.
+ * <p>
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class TagArrayFunctionContributor implements FunctionContributor {
+
+    public static final String TAGS_OVERLAP = "tags_overlap";
+    public static final String TAGS_CONTAIN_ALL = "tags_contain_all";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern(TAGS_OVERLAP, "(?1 && string_to_array(?2, ','))", booleanType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern(TAGS_CONTAIN_ALL, "(?1 @> string_to_array(?2, ','))", booleanType);
+    }
+}
@@ -1,13 +1,19 @@
 package com.stepin.jobopening.controller;
 
+import com.stepin.jobopening.dto.JobOpeningListVersion;
 import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
 import com.stepin.jobopening.service.JobOpeningService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,7 +27,51 @@ public class CompanyJobOpeningController {
     }
 
     @GetMapping
-    public List<JobOpeningResponse> listCompanyJobOpenings(@PathVariable UUID companyId) {
-        return jobOpeningService.listJobOpeningsByCompany(companyId);
+    public ResponseEntity<List<JobOpeningResponse>> listCompanyJobOpenings(
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(null, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningsByCompany(companyId, tags, tagMatch, cursor, limit));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listCompanyJobOpeningFields(
+            @PathVariable UUID companyId,
+            @RequestParam String fields,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(null, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningFields(null, companyId, fields, tags, tagMatch, cursor, limit));
+    }
+
+    @GetMapping(params = { "view=summary", "!fields" })
+    public ResponseEntity<List<JobOpeningSummaryResponse>> listCompanyJobOpeningSummaries(
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(null, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningSummariesByCompany(companyId, tags, tagMatch, cursor, limit));
     }
 }
@@ -0,0 +1,128 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.exception.PreconditionFailedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Conditional request support. Computes a strong ETag for a job opening or a
+ * listing, plus a Last-Modified time for a single job opening, and evaluates
+ * If-None-Match / If-Modified-Since against them. When the request is not
+ * modified the response status is already set to 304 and the handler must return
+ * without a body.
+ * <p>
+ * For updates, the If-Match header is turned into the version the client expects
+ * the job opening to still have.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * ETag derived from the id and the version of the job opening.
+     */
+    static boolean isNotModified(WebRequest request, JobOpeningResponse jobOpening) {
+        return request.checkNotModified(etag(jobOpening), toMillis(jobOpening.getUpdatedAt()));
+    }
+
+    /**
+     * Wraps the result of an update, with the ETag of its new version.
+     */
+    static ResponseEntity<JobOpeningResponse> updated(JobOpeningResponse jobOpening) {
+        return ResponseEntity.ok().eTag(etag(jobOpening)).body(jobOpening);
+    }
+
+    /**
+     * Extracts the version a client expects from an If-Match header holding the
+     * ETag it read. Weak tags never match, as If-Match uses strong comparison.
+     *
+     * @param jobId   the job opening being updated
+     * @param ifMatch the If-Match header, or null
+     * @return the expected version, or null if the update is unconditional
+     *         (no header, or {@code *})
+     * @throws PreconditionFailedException if no tag in the header belongs to the
+     *                                     job opening
+     * @throws BadRequestException         if the header names several versions
+     */
+    static Long expectedVersion(UUID jobId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String prefix = "\"" + jobId + "-";
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*")) {
+                return null;
+            }
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    versions.add(Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags, cannot match
+                }
+            }
+        }
+
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("Job opening has been modified");
+        }
+        if (versions.size() > 1) {
+            throw new BadRequestException("If-Match must name a single version of the job opening");
+        }
+        return versions.iterator().next();
+    }
+
+    /**
+     * ETag derived from the row count and the latest update time of the listing
+     * scope. Filters and paging are part of the URL, so they do not need to be
+     * part of the ETag. The version is read before the rows, so a write landing
+     * in between can only make the next request miss, never serve stale rows.
+     * <p>
+     * Listings carry no Last-Modified: deleting a row leaves max(updatedAt) the
+     * same or moves it back, so If-Modified-Since would answer 304 for a listing
+     * that lost rows. Only the row count in the ETag notices deletions.
+     */
+    static boolean isNotModified(WebRequest request, JobOpeningListVersion version) {
+        return isNotModified(request, version, false);
+    }
+
+    /**
+     * Variant for listings that may be sent gzip-compressed. The compressed and
+     * the identity body are different bytes, so the gzip one gets its own strong
+     * ETag with a {@code -gz} suffix.
+     */
+    static boolean isNotModified(WebRequest request, JobOpeningListVersion version, boolean gzip) {
+        String tag = version.getCount() + "-" + toMicros(version.getLastUpdatedAt());
+        return request.checkNotModified(etag(gzip ? tag + "-gz" : tag));
+    }
+
+    private static String etag(JobOpeningResponse jobOpening) {
+        Long version = jobOpening.getVersion();
+        return etag(jobOpening.getId() + "-" + (version == null ? 0 : version));
+    }
+
+    private static String etag(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static long toMicros(OffsetDateTime time) {
+        return time == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, time.toInstant());
+    }
+
+    private static long toMillis(OffsetDateTime time) {
+        return time == null ? -1 : time.toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,57 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.dto.CursorPage;
+import com.stepin.jobopening.service.EncodedPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Renders a {@link CursorPage} or an {@link EncodedPage} as a plain JSON array,
+ * with the cursor of the next page in the {@value #NEXT_CURSOR_HEADER} header.
+ */
+final class CursorPageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorPageResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getItems());
+    }
+
+    /**
+     * Writes the cached bytes as they are, gzip-compressed when the page has a
+     * compressed copy and the client accepts it.
+     */
+    static ResponseEntity<byte[]> toResponse(EncodedPage page, String acceptEncoding) {
+        boolean gzip = isGzip(page, acceptEncoding);
+        byte[] body = gzip ? page.gzip() : page.json();
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Whether {@link #toResponse(EncodedPage, String)} sends the gzip copy.
+     */
+    static boolean isGzip(EncodedPage page, String acceptEncoding) {
+        return page.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
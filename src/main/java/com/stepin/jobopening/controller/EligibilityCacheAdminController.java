@@ -0,0 +1,57 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.client.EligibilityCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Administrative endpoints for evicting cached eligibility decisions.
+ */
+@RestController
+@RequestMapping("/admin/eligibility-cache")
+public class EligibilityCacheAdminController {
+
+    private final EligibilityCache eligibilityCache;
+
+    public EligibilityCacheAdminController(EligibilityCache eligibilityCache) {
+        this.eligibilityCache = eligibilityCache;
+    }
+
+    /**
+     * Evicts every cached eligibility decision.
+     */
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAll() {
+        eligibilityCache.evictAll();
+    }
+
+    /**
+     * Evicts all cached eligibility decisions for a campaign.
+     *
+     * @param campaignId the campaign UUID
+     */
+    @DeleteMapping("/campaigns/{campaignId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictCampaign(@PathVariable UUID campaignId) {
+        eligibilityCache.evictCampaign(campaignId);
+    }
+
+    /**
+     * Evicts the cached eligibility decision for a campaign and company.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     */
+    @DeleteMapping("/campaigns/{campaignId}/companies/{companyId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evict(@PathVariable UUID campaignId, @PathVariable UUID companyId) {
+        eligibilityCache.evict(campaignId, companyId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.dto.JobOpeningChangesResponse;
+import com.stepin.jobopening.service.JobOpeningChangeFeed;
+import com.stepin.jobopening.service.JobOpeningChangeService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@RestController
+public class JobOpeningChangeController {
+
+    private final JobOpeningChangeService jobOpeningChangeService;
+    private final JobOpeningChangeFeed jobOpeningChangeFeed;
+
+    public JobOpeningChangeController(JobOpeningChangeService jobOpeningChangeService,
+            JobOpeningChangeFeed jobOpeningChangeFeed) {
+        this.jobOpeningChangeService = jobOpeningChangeService;
+        this.jobOpeningChangeFeed = jobOpeningChangeFeed;
+    }
+
+    /**
+     * Returns the job openings of a campaign created, updated or deleted after
+     * {@code since}, or after the position of a previous response's cursor.
+     *
+     * @param campaignId the campaign UUID
+     * @param since      ISO-8601 timestamp, exclusive
+     * @param cursor     the nextCursor of the previous response
+     * @param limit      the maximum number of changes, absent for the default
+     * @return updated job openings and tombstones
+     */
+    @GetMapping("/campaigns/{campaignId}/job-openings/changes")
+    public JobOpeningChangesResponse getCampaignChanges(
+            @PathVariable UUID campaignId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return jobOpeningChangeService.getCampaignChanges(campaignId, since, cursor, limit);
+    }
+
+    /**
+     * Returns the job openings of a company created, updated or deleted after
+     * {@code since}, or after the position of a previous response's cursor.
+     *
+     * @param companyId the company UUID
+     * @param since     ISO-8601 timestamp, exclusive
+     * @param cursor    the nextCursor of the previous response
+     * @param limit     the maximum number of changes, absent for the default
+     * @return updated job openings and tombstones
+     */
+    @GetMapping("/companies/{companyId}/job-openings/changes")
+    public JobOpeningChangesResponse getCompanyChanges(
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return jobOpeningChangeService.getCompanyChanges(companyId, since, cursor, limit);
+    }
+
+    /**
+     * Streams created, updated and deleted events as Server-Sent Events. The event
+     * name is the change type and the data holds the job opening, campaign and
+     * company ids.
+     *
+     * @param campaignId only stream changes of this campaign, absent for all
+     * @param companyId  only stream changes of this company, absent for all
+     * @return the event stream
+     */
+    @GetMapping(value = "/job-openings/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) UUID campaignId,
+            @RequestParam(required = false) UUID companyId) {
+        return jobOpeningChangeFeed.subscribe(campaignId, companyId);
+    }
+}
@@ -1,15 +1,25 @@
 package com.stepin.jobopening.controller;
 
+import com.stepin.jobopening.dto.JobOpeningBulkCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningBulkDeleteResponse;
 import com.stepin.jobopening.dto.JobOpeningCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
 import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
 import com.stepin.jobopening.dto.JobOpeningUpdateRequest;
+import com.stepin.jobopening.service.EncodedPage;
 import com.stepin.jobopening.service.JobOpeningService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class JobOpeningController {
@@ -21,28 +31,194 @@ public class JobOpeningController {
     }
 
     /**
-     * Lists all job openings for a specific campaign and company.
+     * Lists one page of job openings for a specific campaign and company. The
+     * cursor of the next page, if any, is returned in the X-Next-Cursor header.
      *
      * @param campaignId the campaign UUID
      * @param companyId  the company UUID
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
      * @return list of JobOpeningResponse DTOs
      */
     @GetMapping("/campaigns/{campaignId}/companies/{companyId}/job-openings")
-    public List<JobOpeningResponse> listJobOpenings(
+    public ResponseEntity<List<JobOpeningResponse>> listJobOpenings(
             @PathVariable UUID campaignId,
-            @PathVariable UUID companyId) {
-        return jobOpeningService.listJobOpenings(campaignId, companyId);
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpenings(campaignId, companyId, tags, tagMatch, cursor, limit));
+    }
+
+    /**
+     * Lists one page of job openings for a specific campaign and company with
+     * only the fields named in {@code ?fields=}.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param fields     comma-separated JobOpeningResponse field names
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
+     * @return list of rows holding the requested fields
+     */
+    @GetMapping(value = "/campaigns/{campaignId}/companies/{companyId}/job-openings", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listJobOpeningFields(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @RequestParam String fields,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningFields(
+                        campaignId, companyId, fields, tags, tagMatch, cursor, limit));
+    }
+
+    /**
+     * Lists one page of job opening summaries for a specific campaign and
+     * company. Selected with {@code ?view=summary}.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
+     * @return list of JobOpeningSummaryResponse DTOs
+     */
+    @GetMapping(value = "/campaigns/{campaignId}/companies/{companyId}/job-openings", params = { "view=summary", "!fields" })
+    public ResponseEntity<List<JobOpeningSummaryResponse>> listJobOpeningSummaries(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, companyId);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningSummaries(campaignId, companyId, tags, tagMatch, cursor, limit));
     }
 
     /**
-     * Lists all job openings for a specific campaign across all companies.
+     * Lists one page of job openings for a specific campaign across all
+     * companies. The cursor of the next page, if any, is returned in the
+     * X-Next-Cursor header. Unfiltered pages are served from the pre-encoded
+     * listing cache, and conditional requests on them are answered from the
+     * version cached with the page, so a hit makes no database round trip.
      *
      * @param campaignId the campaign UUID
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
      * @return list of JobOpeningResponse DTOs
      */
     @GetMapping("/campaigns/{campaignId}/job-openings")
-    public List<JobOpeningResponse> listJobOpeningsByCampaign(@PathVariable UUID campaignId) {
-        return jobOpeningService.listJobOpeningsByCampaign(campaignId);
+    public ResponseEntity<?> listJobOpeningsByCampaign(
+            @PathVariable UUID campaignId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        if (tags == null) {
+            EncodedPage page = jobOpeningService.listEncodedJobOpeningsByCampaign(campaignId, cursor, limit);
+            String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (ConditionalResponses.isNotModified(webRequest, page.version(),
+                    CursorPageResponses.isGzip(page, acceptEncoding))) {
+                return null;
+            }
+            return CursorPageResponses.toResponse(page, acceptEncoding);
+        }
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, null);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningsByCampaign(campaignId, tags, tagMatch, cursor, limit));
+    }
+
+    /**
+     * Lists one page of job openings for a specific campaign across all companies
+     * with only the fields named in {@code ?fields=}.
+     *
+     * @param campaignId the campaign UUID
+     * @param fields     comma-separated JobOpeningResponse field names
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
+     * @return list of rows holding the requested fields
+     */
+    @GetMapping(value = "/campaigns/{campaignId}/job-openings", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listJobOpeningFieldsByCampaign(
+            @PathVariable UUID campaignId,
+            @RequestParam String fields,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, null);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningFields(campaignId, null, fields, tags, tagMatch, cursor, limit));
+    }
+
+    /**
+     * Lists one page of job opening summaries for a specific campaign across all
+     * companies. Selected with {@code ?view=summary}.
+     *
+     * @param campaignId the campaign UUID
+     * @param tags       comma-separated tags to filter by, absent for no filter
+     * @param tagMatch   {@code any} (the default) or {@code all}
+     * @param cursor     the cursor of the page to fetch, absent for the first page
+     * @param limit      the page size, absent for the default
+     * @param webRequest the current request, for If-None-Match
+     * @return list of JobOpeningSummaryResponse DTOs
+     */
+    @GetMapping(value = "/campaigns/{campaignId}/job-openings", params = { "view=summary", "!fields" })
+    public ResponseEntity<List<JobOpeningSummaryResponse>> listJobOpeningSummariesByCampaign(
+            @PathVariable UUID campaignId,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        JobOpeningListVersion version = jobOpeningService.getListVersion(campaignId, null);
+        if (ConditionalResponses.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningSummariesByCampaign(campaignId, tags, tagMatch, cursor, limit));
     }
 
     /**
@@ -63,21 +239,45 @@ public class JobOpeningController {
     }
 
     /**
-     * Updates an existing job opening.
+     * Creates several job openings for one campaign and company at once. All
+     * items are validated before anything is written, and either all of them are
+     * created or none.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param request    the job openings to create
+     * @return the created JobOpeningResponse DTOs, in request order
+     */
+    @PostMapping("/campaigns/{campaignId}/companies/{companyId}/job-openings/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<JobOpeningResponse> createJobOpenings(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @Valid @RequestBody JobOpeningBulkCreateRequest request) {
+        return jobOpeningService.createJobOpenings(campaignId, companyId, request.getItems());
+    }
+
+    /**
+     * Updates an existing job opening. With an If-Match header the update only
+     * applies if the job opening still has the version of that ETag, otherwise
+     * 412 is returned.
      *
      * @param campaignId the campaign UUID
      * @param companyId  the company UUID
      * @param jobId      the job opening UUID
+     * @param ifMatch    the ETag the client last read, or null
      * @param request    the job opening update request
-     * @return the updated JobOpeningResponse DTO
+     * @return the updated JobOpeningResponse DTO, with its new ETag
      */
     @PutMapping("/campaigns/{campaignId}/companies/{companyId}/job-openings/{jobId}")
-    public JobOpeningResponse updateJobOpening(
+    public ResponseEntity<JobOpeningResponse> updateJobOpening(
             @PathVariable UUID campaignId,
             @PathVariable UUID companyId,
             @PathVariable UUID jobId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody JobOpeningUpdateRequest request) {
-        return jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request);
+        return ConditionalResponses.updated(jobOpeningService.updateJobOpening(campaignId, companyId, jobId,
+                request, ConditionalResponses.expectedVersion(jobId, ifMatch)));
     }
 
     /**
@@ -96,4 +296,80 @@ public class JobOpeningController {
         jobOpeningService.deleteJobOpening(campaignId, companyId, jobId);
     }
 
+    /**
+     * Deletes every job opening of a campaign and company, e.g. when the company
+     * withdraws from the campaign.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param dryRun     only count the job openings that would be deleted
+     * @return the number of deleted job openings
+     */
+    @DeleteMapping("/campaigns/{campaignId}/companies/{companyId}/job-openings")
+    public JobOpeningBulkDeleteResponse deleteJobOpenings(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return jobOpeningService.deleteJobOpenings(campaignId, companyId, dryRun);
+    }
+
+    /**
+     * Creates a new job opening without holding the request thread while the
+     * eligibility check is pending.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param request    the job opening creation request
+     * @return a future completing with the created JobOpeningResponse DTO
+     */
+    @PostMapping("/async/campaigns/{campaignId}/companies/{companyId}/job-openings")
+    public CompletableFuture<ResponseEntity<JobOpeningResponse>> createJobOpeningAsync(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @Valid @RequestBody JobOpeningCreateRequest request) {
+        return jobOpeningService.createJobOpeningAsync(campaignId, companyId, request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * Updates an existing job opening without holding the request thread while the
+     * eligibility check is pending.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param jobId      the job opening UUID
+     * @param ifMatch    the ETag the client last read, or null
+     * @param request    the job opening update request
+     * @return a future completing with the updated JobOpeningResponse DTO, with
+     *         its new ETag
+     */
+    @PutMapping("/async/campaigns/{campaignId}/companies/{companyId}/job-openings/{jobId}")
+    public CompletableFuture<ResponseEntity<JobOpeningResponse>> updateJobOpeningAsync(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @PathVariable UUID jobId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody JobOpeningUpdateRequest request) {
+        return jobOpeningService.updateJobOpeningAsync(campaignId, companyId, jobId, request,
+                        ConditionalResponses.expectedVersion(jobId, ifMatch))
+                .thenApply(ConditionalResponses::updated);
+    }
+
+    /**
+     * Deletes a job opening without holding the request thread while the
+     * eligibility check is pending.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param jobId      the job opening UUID
+     * @return a future completing once the job opening is deleted
+     */
+    @DeleteMapping("/async/campaigns/{campaignId}/companies/{companyId}/job-openings/{jobId}")
+    public CompletableFuture<ResponseEntity<Void>> deleteJobOpeningAsync(
+            @PathVariable UUID campaignId,
+            @PathVariable UUID companyId,
+            @PathVariable UUID jobId) {
+        return jobOpeningService.deleteJobOpeningAsync(campaignId, companyId, jobId)
+                .thenApply(ignored -> ResponseEntity.noContent().build());
+    }
 }
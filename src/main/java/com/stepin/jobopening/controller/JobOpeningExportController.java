@@ -0,0 +1,42 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.service.JobOpeningExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+/**
+ * Bulk export of job openings for downstream analytics.
+ */
+@RestController
+public class JobOpeningExportController {
+
+    private final JobOpeningExportService jobOpeningExportService;
+
+    public JobOpeningExportController(JobOpeningExportService jobOpeningExportService) {
+        this.jobOpeningExportService = jobOpeningExportService;
+    }
+
+    /**
+     * Streams every job opening of a campaign as newline-delimited JSON.
+     *
+     * @param campaignId the campaign UUID
+     * @return the streaming NDJSON response body
+     */
+    @GetMapping(value = "/campaigns/{campaignId}/job-openings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportJobOpenings(@PathVariable UUID campaignId) {
+        StreamingResponseBody body = out -> jobOpeningExportService.exportCampaign(campaignId, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"job-openings-" + campaignId + ".ndjson\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,30 @@
+package com.stepin.jobopening.controller;
+
+import com.stepin.jobopening.dto.JobOpeningFacetsResponse;
+import com.stepin.jobopening.service.JobOpeningFacetService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+public class JobOpeningFacetController {
+
+    private final JobOpeningFacetService jobOpeningFacetService;
+
+    public JobOpeningFacetController(JobOpeningFacetService jobOpeningFacetService) {
+        this.jobOpeningFacetService = jobOpeningFacetService;
+    }
+
+    /**
+     * Returns the filter facets of a campaign.
+     *
+     * @param campaignId the campaign UUID
+     * @return counts per contract type, location and tag
+     */
+    @GetMapping("/campaigns/{campaignId}/job-openings/facets")
+    public JobOpeningFacetsResponse getCampaignFacets(@PathVariable UUID campaignId) {
+        return jobOpeningFacetService.getCampaignFacets(campaignId);
+    }
+}
@@ -1,19 +1,31 @@
 package com.stepin.jobopening.controller;
 
+import com.stepin.jobopening.dto.CampaignJobOpenings;
+import com.stepin.jobopening.dto.JobOpeningLookupRequest;
+import com.stepin.jobopening.dto.JobOpeningLookupResponse;
 import com.stepin.jobopening.dto.JobOpeningResponse;
 import com.stepin.jobopening.dto.JobOpeningUpdateRequest;
+import com.stepin.jobopening.service.JobOpeningLookupService;
 import com.stepin.jobopening.service.JobOpeningService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,21 +33,70 @@ import java.util.UUID;
 public class JobOpeningQueryController {
 
     private final JobOpeningService jobOpeningService;
+    private final JobOpeningLookupService jobOpeningLookupService;
 
-    public JobOpeningQueryController(JobOpeningService jobOpeningService) {
+    public JobOpeningQueryController(JobOpeningService jobOpeningService,
+            JobOpeningLookupService jobOpeningLookupService) {
         this.jobOpeningService = jobOpeningService;
+        this.jobOpeningLookupService = jobOpeningLookupService;
+    }
+
+    /**
+     * Lists one page of job openings across several campaigns, grouped by
+     * campaign. The cursor of the next page, if any, is returned in the
+     * X-Next-Cursor header.
+     *
+     * @param campaignIds the campaign UUIDs
+     * @param companyId   the company UUID, absent for all companies
+     * @param cursor      the cursor of the page to fetch, absent for the first page
+     * @param limit       the page size, absent for the default
+     * @return list of per-campaign groups
+     */
+    @GetMapping(params = "campaignIds")
+    public ResponseEntity<List<CampaignJobOpenings>> listJobOpeningsByCampaigns(
+            @RequestParam List<UUID> campaignIds,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.toResponse(
+                jobOpeningService.listJobOpeningsByCampaigns(campaignIds, companyId, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<JobOpeningResponse>> searchJobOpenings(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID campaignId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return CursorPageResponses.toResponse(jobOpeningService.searchJobOpenings(q, campaignId, cursor, limit));
+    }
+
+    @PostMapping("/lookup")
+    public JobOpeningLookupResponse lookupJobOpenings(@Valid @RequestBody JobOpeningLookupRequest request) {
+        return jobOpeningLookupService.lookupJobOpenings(request.getIds());
     }
 
     @GetMapping("/{jobId}")
-    public JobOpeningResponse getJobOpening(@PathVariable UUID jobId) {
-        return jobOpeningService.getJobOpening(jobId);
+    public JobOpeningResponse getJobOpening(@PathVariable UUID jobId, WebRequest webRequest) {
+        JobOpeningResponse jobOpening = jobOpeningService.getJobOpening(jobId);
+        if (ConditionalResponses.isNotModified(webRequest, jobOpening)) {
+            return null;
+        }
+        return jobOpening;
+    }
+
+    @GetMapping(value = "/{jobId}", params = "fields")
+    public Map<String, Object> getJobOpeningFields(@PathVariable UUID jobId, @RequestParam String fields) {
+        return jobOpeningService.getJobOpeningFields(jobId, fields);
     }
 
     @PutMapping("/{jobId}")
-    public JobOpeningResponse updateJobOpening(
+    public ResponseEntity<JobOpeningResponse> updateJobOpening(
             @PathVariable UUID jobId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody JobOpeningUpdateRequest request) {
-        return jobOpeningService.updateJobOpeningById(jobId, request);
+        return ConditionalResponses.updated(jobOpeningService.updateJobOpeningById(jobId, request,
+                ConditionalResponses.expectedVersion(jobId, ifMatch)));
     }
 
     @DeleteMapping("/{jobId}")
@@ -3,13 +3,25 @@ package com.stepin.jobopening.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+/**
+ * Job opening entity. Ids are assigned by the application, so the entity tracks
+ * whether it has been persisted yet; this lets {@code save()} issue a plain INSERT
+ * for new instances instead of merging them, which would SELECT the id first.
+ */
 @Entity
 @Table(name = "job_opening")
-public class JobOpening {
+public class JobOpening implements Persistable<UUID> {
     @Id
     @Column(name = "job_opening_id")
     private UUID id;
@@ -47,12 +59,25 @@ public class JobOpening {
     @Column(name = "tags")
     private String tags;
 
+    // Normalized form of tags, kept in sync by the service layer
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tag_list", nullable = false)
+    private String[] tagList = new String[0];
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // True until the instance has been inserted or was loaded from the database
+    @Transient
+    private boolean isNew = true;
+
     public JobOpening() {
     }
 
@@ -75,7 +100,19 @@ public class JobOpening {
         this.updatedAt = updatedAt;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     // Getters and Setters
+    @Override
     public UUID getId() {
         return id;
     }
@@ -172,6 +209,14 @@ public class JobOpening {
         this.tags = tags;
     }
 
+    public String[] getTagList() {
+        return tagList;
+    }
+
+    public void setTagList(String[] tagList) {
+        this.tagList = tagList;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
@@ -187,4 +232,12 @@ public class JobOpening {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
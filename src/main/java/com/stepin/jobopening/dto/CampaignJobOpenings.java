@@ -0,0 +1,37 @@
+package com.stepin.jobopening.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The job openings of one campaign within a page of a multi-campaign listing.
+ */
+public class CampaignJobOpenings {
+
+    private UUID campaignId;
+    private List<JobOpeningResponse> items;
+
+    public CampaignJobOpenings() {
+    }
+
+    public CampaignJobOpenings(UUID campaignId, List<JobOpeningResponse> items) {
+        this.campaignId = campaignId;
+        this.items = items;
+    }
+
+    public UUID getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(UUID campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public List<JobOpeningResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobOpeningResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,53 @@
+package com.stepin.jobopening.dto;
+
+import java.util.UUID;
+
+public class EligibilityBatchItem {
+
+    private UUID campaignId;
+    private UUID companyId;
+    private boolean canMutateJobs;
+    private String reason;
+
+    public EligibilityBatchItem() {
+    }
+
+    public EligibilityBatchItem(UUID campaignId, UUID companyId, boolean canMutateJobs, String reason) {
+        this.campaignId = campaignId;
+        this.companyId = companyId;
+        this.canMutateJobs = canMutateJobs;
+        this.reason = reason;
+    }
+
+    public UUID getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(UUID campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(UUID companyId) {
+        this.companyId = companyId;
+    }
+
+    public boolean isCanMutateJobs() {
+        return canMutateJobs;
+    }
+
+    public void setCanMutateJobs(boolean canMutateJobs) {
+        this.canMutateJobs = canMutateJobs;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
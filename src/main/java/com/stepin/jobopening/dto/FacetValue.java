@@ -0,0 +1,31 @@
+package com.stepin.jobopening.dto;
+
+public class FacetValue {
+
+    private String value;
+    private long count;
+
+    public FacetValue() {
+    }
+
+    public FacetValue(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
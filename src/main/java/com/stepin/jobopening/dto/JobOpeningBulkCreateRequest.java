@@ -0,0 +1,32 @@
+package com.stepin.jobopening.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class JobOpeningBulkCreateRequest {
+
+    public static final int MAX_ITEMS = 200;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    @Valid
+    private List<JobOpeningCreateRequest> items;
+
+    public JobOpeningBulkCreateRequest() {
+    }
+
+    public JobOpeningBulkCreateRequest(List<JobOpeningCreateRequest> items) {
+        this.items = items;
+    }
+
+    public List<JobOpeningCreateRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobOpeningCreateRequest> items) {
+        this.items = items;
+    }
+}
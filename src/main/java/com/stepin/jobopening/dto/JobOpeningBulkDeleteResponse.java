@@ -0,0 +1,36 @@
+package com.stepin.jobopening.dto;
+
+/**
+ * Result of deleting every job opening of a campaign and company. In a dry run
+ * nothing is deleted and {@code deletedCount} is the number of job openings that
+ * would have been.
+ */
+public class JobOpeningBulkDeleteResponse {
+
+    private long deletedCount;
+    private boolean dryRun;
+
+    public JobOpeningBulkDeleteResponse() {
+    }
+
+    public JobOpeningBulkDeleteResponse(long deletedCount, boolean dryRun) {
+        this.deletedCount = deletedCount;
+        this.dryRun = dryRun;
+    }
+
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public void setDeletedCount(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+}
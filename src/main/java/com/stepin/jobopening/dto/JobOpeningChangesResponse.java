@@ -0,0 +1,60 @@
+package com.stepin.jobopening.dto;
+
+import java.util.List;
+
+/**
+ * One batch of the delta-sync feed: job openings created or updated and job
+ * openings deleted after the requested position. {@code nextCursor} is always
+ * set and is where the next poll resumes; {@code hasMore} tells whether further
+ * changes are already available.
+ */
+public class JobOpeningChangesResponse {
+
+    private List<JobOpeningResponse> updated;
+    private List<JobOpeningTombstone> deleted;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public JobOpeningChangesResponse() {
+    }
+
+    public JobOpeningChangesResponse(List<JobOpeningResponse> updated, List<JobOpeningTombstone> deleted,
+            String nextCursor, boolean hasMore) {
+        this.updated = updated;
+        this.deleted = deleted;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<JobOpeningResponse> getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(List<JobOpeningResponse> updated) {
+        this.updated = updated;
+    }
+
+    public List<JobOpeningTombstone> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<JobOpeningTombstone> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,59 @@
+package com.stepin.jobopening.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filter facets of a campaign: for each contract type, location and tag, the
+ * number of job openings carrying it, most frequent first.
+ */
+public class JobOpeningFacetsResponse {
+
+    private UUID campaignId;
+    private List<FacetValue> contractTypes;
+    private List<FacetValue> locations;
+    private List<FacetValue> tags;
+
+    public JobOpeningFacetsResponse() {
+    }
+
+    public JobOpeningFacetsResponse(UUID campaignId, List<FacetValue> contractTypes, List<FacetValue> locations,
+            List<FacetValue> tags) {
+        this.campaignId = campaignId;
+        this.contractTypes = contractTypes;
+        this.locations = locations;
+        this.tags = tags;
+    }
+
+    public UUID getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(UUID campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public List<FacetValue> getContractTypes() {
+        return contractTypes;
+    }
+
+    public void setContractTypes(List<FacetValue> contractTypes) {
+        this.contractTypes = contractTypes;
+    }
+
+    public List<FacetValue> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(List<FacetValue> locations) {
+        this.locations = locations;
+    }
+
+    public List<FacetValue> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<FacetValue> tags) {
+        this.tags = tags;
+    }
+}
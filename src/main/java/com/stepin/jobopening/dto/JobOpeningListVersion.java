@@ -0,0 +1,38 @@
+package com.stepin.jobopening.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Number of job openings in a listing scope and the most recent update time
+ * among them. Any create, update or delete in the scope changes at least one of
+ * the two values, so together they identify the state of the listing.
+ */
+public class JobOpeningListVersion {
+
+    private long count;
+    private OffsetDateTime lastUpdatedAt;
+
+    public JobOpeningListVersion() {
+    }
+
+    public JobOpeningListVersion(long count, OffsetDateTime lastUpdatedAt) {
+        this.count = count;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public OffsetDateTime getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public void setLastUpdatedAt(OffsetDateTime lastUpdatedAt) {
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.stepin.jobopening.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public class JobOpeningLookupRequest {
+
+    @NotEmpty
+    private List<@NotNull UUID> ids;
+
+    public JobOpeningLookupRequest() {
+    }
+
+    public JobOpeningLookupRequest(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,38 @@
+package com.stepin.jobopening.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a bulk lookup: the job openings found, in the order their ids were
+ * requested, and the requested ids that do not exist.
+ */
+public class JobOpeningLookupResponse {
+
+    private List<JobOpeningResponse> items;
+    private List<UUID> missingIds;
+
+    public JobOpeningLookupResponse() {
+    }
+
+    public JobOpeningLookupResponse(List<JobOpeningResponse> items, List<UUID> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    public List<JobOpeningResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobOpeningResponse> items) {
+        this.items = items;
+    }
+
+    public List<UUID> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<UUID> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -19,6 +19,7 @@ public class JobOpeningResponse {
     private String tags;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+    private Long version;
 
     public JobOpeningResponse() {
     }
@@ -154,4 +155,12 @@ public class JobOpeningResponse {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,100 @@
+package com.stepin.jobopening.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight view of a job opening for list screens. Built directly by a JPQL
+ * constructor expression, so the large text columns are never read.
+ */
+public class JobOpeningSummaryResponse {
+
+    private UUID id;
+    private UUID campaignId;
+    private UUID companyId;
+    private String title;
+    private String location;
+    private String contractType;
+    private String tags;
+    private OffsetDateTime createdAt;
+
+    public JobOpeningSummaryResponse() {
+    }
+
+    public JobOpeningSummaryResponse(UUID id, UUID campaignId, UUID companyId, String title, String location,
+            String contractType, String tags, OffsetDateTime createdAt) {
+        this.id = id;
+        this.campaignId = campaignId;
+        this.companyId = companyId;
+        this.title = title;
+        this.location = location;
+        this.contractType = contractType;
+        this.tags = tags;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(UUID campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(UUID companyId) {
+        this.companyId = companyId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getContractType() {
+        return contractType;
+    }
+
+    public void setContractType(String contractType) {
+        this.contractType = contractType;
+    }
+
+    public String getTags() {
+        return tags;
+    }
+
+    public void setTags(String tags) {
+        this.tags = tags;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.stepin.jobopening.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class JobOpeningTombstone {
+
+    private UUID id;
+    private UUID campaignId;
+    private UUID companyId;
+    private OffsetDateTime deletedAt;
+
+    public JobOpeningTombstone() {
+    }
+
+    public JobOpeningTombstone(UUID id, UUID campaignId, UUID companyId, OffsetDateTime deletedAt) {
+        this.id = id;
+        this.campaignId = campaignId;
+        this.companyId = companyId;
+        this.deletedAt = deletedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getCampaignId() {
+        return campaignId;
+    }
+
+    public void setCampaignId(UUID campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(UUID companyId) {
+        this.companyId = companyId;
+    }
+
+    public OffsetDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(OffsetDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
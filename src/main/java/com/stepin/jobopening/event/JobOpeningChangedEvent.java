@@ -0,0 +1,14 @@
+package com.stepin.jobopening.event;
+
+import java.util.UUID;
+
+/**
+ * Published by JobOpeningService after a job opening has been created, updated or
+ * deleted. Listeners use it to invalidate derived, per-campaign data.
+ */
+public record JobOpeningChangedEvent(UUID jobOpeningId, UUID campaignId, UUID companyId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,12 @@
+package com.stepin.jobopening.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by JobOpeningService once per bulk delete of a company's job openings
+ * in a campaign, in place of one JobOpeningChangedEvent per deleted job opening,
+ * so that per-campaign data is invalidated once.
+ */
+public record JobOpeningsDeletedEvent(UUID campaignId, UUID companyId, List<UUID> jobOpeningIds) {
+}
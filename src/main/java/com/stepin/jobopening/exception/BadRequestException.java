@@ -0,0 +1,7 @@
+package com.stepin.jobopening.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.stepin.jobopening.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
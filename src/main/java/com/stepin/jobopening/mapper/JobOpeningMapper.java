@@ -27,7 +27,8 @@ public interface JobOpeningMapper {
 
     /**
      * Converts a JobOpeningCreateRequest DTO to a JobOpening domain object.
-     * Note: id, campaignId, companyId, createdAt, and updatedAt should be set by the service layer.
+     * Note: id, campaignId, companyId, createdAt, updatedAt and tagList should be set by the service layer;
+     * version is assigned on insert.
      *
      * @param request the JobOpeningCreateRequest DTO
      * @return the JobOpening domain object
@@ -37,12 +38,14 @@ public interface JobOpeningMapper {
     @Mapping(target = "companyId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tagList", ignore = true)
+    @Mapping(target = "version", ignore = true)
     JobOpening toEntity(JobOpeningCreateRequest request);
 
     /**
      * Updates an existing JobOpening entity from a JobOpeningUpdateRequest DTO.
      * Only updates mutable fields (title, description, requirements).
-     * Note: updatedAt should be set by the service layer.
+     * Note: updatedAt and tagList should be set by the service layer; version is managed by the update statement.
      *
      * @param request the JobOpeningUpdateRequest DTO
      * @param jobOpening the existing JobOpening entity to update
@@ -52,5 +55,7 @@ public interface JobOpeningMapper {
     @Mapping(target = "companyId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "tagList", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(JobOpeningUpdateRequest request, @MappingTarget JobOpening jobOpening);
 }
@@ -0,0 +1,12 @@
+package com.stepin.jobopening.repository;
+
+/**
+ * Projection of one GROUP BY bucket: a facet value and the number of job openings
+ * carrying it.
+ */
+public interface FacetCount {
+
+    String getValue();
+
+    long getCount();
+}
@@ -0,0 +1,50 @@
+package com.stepin.jobopening.repository;
+
+import com.stepin.jobopening.domain.JobOpeningDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobOpeningDeletionRepository extends JpaRepository<JobOpeningDeletion, UUID> {
+
+    @Query("select d from JobOpeningDeletion d where d.campaignId = :campaignId"
+            + " and d.deletedAt >= :deletedAt and (d.deletedAt > :deletedAt or d.id > :id)"
+            + " and d.deletedAt <= :until order by d.deletedAt asc, d.id asc")
+    List<JobOpeningDeletion> findByCampaignIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("deletedAt") OffsetDateTime deletedAt, @Param("id") UUID id,
+            @Param("until") OffsetDateTime until, Pageable pageable);
+
+    @Query("select d from JobOpeningDeletion d where d.companyId = :companyId"
+            + " and d.deletedAt >= :deletedAt and (d.deletedAt > :deletedAt or d.id > :id)"
+            + " and d.deletedAt <= :until order by d.deletedAt asc, d.id asc")
+    List<JobOpeningDeletion> findByCompanyIdAfter(@Param("companyId") UUID companyId,
+            @Param("deletedAt") OffsetDateTime deletedAt, @Param("id") UUID id,
+            @Param("until") OffsetDateTime until, Pageable pageable);
+
+    /**
+     * Reads the database clock, the one the deletion trigger stamps tombstones
+     * with.
+     */
+    @Query(value = "select current_timestamp", nativeQuery = true)
+    OffsetDateTime currentTimestamp();
+
+    /**
+     * Deletes the tombstones recorded before a point in time in a single
+     * statement.
+     *
+     * @return the number of deleted tombstones
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from JobOpeningDeletion d where d.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
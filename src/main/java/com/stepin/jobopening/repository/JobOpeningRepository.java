@@ -1,18 +1,196 @@
 package com.stepin.jobopening.repository;
 
 import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID> {
-    List<JobOpening> findByCampaignIdAndCompanyId(UUID campaignId, UUID companyId);
+/**
+ * Listing queries are keyset-paginated over (createdAt, id): the first page is read
+ * from the start of the index and each following page starts strictly after the
+ * last row of the previous one, so no query ever uses OFFSET. The redundant
+ * {@code createdAt >= :createdAt} bound lets the planner start the index range scan
+ * at the cursor. Callers pass the page size through an unsorted, first-page
+ * {@link Pageable}.
+ * <p>
+ * The {@code findSummaries*} variants select only the columns of
+ * {@link JobOpeningSummaryResponse}, leaving the large text columns unread.
+ */
+public interface JobOpeningRepository extends JpaRepository<JobOpening, UUID>, JobOpeningRepositoryCustom {
+    int EXPORT_FETCH_SIZE = 500;
 
-    List<JobOpening> findByCompanyId(UUID companyId);
+    String SELECT_SUMMARY = "select new com.stepin.jobopening.dto.JobOpeningSummaryResponse("
+            + "j.id, j.campaignId, j.companyId, j.title, j.location, j.contractType, j.tags, j.createdAt)"
+            + " from JobOpening j";
 
-    List<JobOpening> findByCampaignId(UUID campaignId);
+    String SELECT_LIST_VERSION = "select new com.stepin.jobopening.dto.JobOpeningListVersion("
+            + "count(j), max(j.updatedAt)) from JobOpening j";
 
-    Optional<JobOpening> findByIdAndCampaignIdAndCompanyId(UUID id, UUID campaignId, UUID companyId);
+    @Query(SELECT_LIST_VERSION + " where j.campaignId = :campaignId and j.companyId = :companyId")
+    JobOpeningListVersion findListVersionByCampaignIdAndCompanyId(@Param("campaignId") UUID campaignId,
+            @Param("companyId") UUID companyId);
+
+    @Query(SELECT_LIST_VERSION + " where j.companyId = :companyId")
+    JobOpeningListVersion findListVersionByCompanyId(@Param("companyId") UUID companyId);
+
+    @Query(SELECT_LIST_VERSION + " where j.campaignId = :campaignId")
+    JobOpeningListVersion findListVersionByCampaignId(@Param("campaignId") UUID campaignId);
+
+    List<JobOpening> findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(UUID campaignId, UUID companyId,
+            Pageable pageable);
+
+    @Query("select j from JobOpening j where j.campaignId = :campaignId and j.companyId = :companyId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpening> findByCampaignIdAndCompanyIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("companyId") UUID companyId, @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Lists the first page across several campaigns. This and the other
+     * {@code findByCampaignIdIn*} queries cannot take their order from the
+     * per-campaign (campaign_id, created_at, id) index. The planner either walks
+     * the global (created_at, id) index, skipping rows of other campaigns, or
+     * reads every row of the requested campaigns after the cursor and sorts them;
+     * the latter is bounded by {@code job-openings.pagination.max-campaigns}
+     * campaigns per request.
+     */
+    List<JobOpening> findByCampaignIdInOrderByCreatedAtAscIdAsc(Collection<UUID> campaignIds, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.campaignId in :campaignIds"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpening> findByCampaignIdInAfter(@Param("campaignIds") Collection<UUID> campaignIds,
+            @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    List<JobOpening> findByCampaignIdInAndCompanyIdOrderByCreatedAtAscIdAsc(Collection<UUID> campaignIds,
+            UUID companyId, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.campaignId in :campaignIds and j.companyId = :companyId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpening> findByCampaignIdInAndCompanyIdAfter(@Param("campaignIds") Collection<UUID> campaignIds,
+            @Param("companyId") UUID companyId, @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    List<JobOpening> findByCompanyIdOrderByCreatedAtAscIdAsc(UUID companyId, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.companyId = :companyId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpening> findByCompanyIdAfter(@Param("companyId") UUID companyId,
+            @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    List<JobOpening> findByCampaignIdOrderByCreatedAtAscIdAsc(UUID campaignId, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.campaignId = :campaignId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpening> findByCampaignIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.campaignId = :campaignId and j.companyId = :companyId"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCampaignIdAndCompanyId(@Param("campaignId") UUID campaignId,
+            @Param("companyId") UUID companyId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.campaignId = :campaignId and j.companyId = :companyId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCampaignIdAndCompanyIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("companyId") UUID companyId, @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.companyId = :companyId order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.companyId = :companyId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCompanyIdAfter(@Param("companyId") UUID companyId,
+            @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.campaignId = :campaignId order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCampaignId(@Param("campaignId") UUID campaignId,
+            Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where j.campaignId = :campaignId"
+            + " and j.createdAt >= :createdAt and (j.createdAt > :createdAt or j.id > :id)"
+            + " order by j.createdAt asc, j.id asc")
+    List<JobOpeningSummaryResponse> findSummariesByCampaignIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.campaignId = :campaignId"
+            + " and j.updatedAt >= :updatedAt and (j.updatedAt > :updatedAt or j.id > :id)"
+            + " and j.updatedAt <= :until order by j.updatedAt asc, j.id asc")
+    List<JobOpening> findChangedByCampaignIdAfter(@Param("campaignId") UUID campaignId,
+            @Param("updatedAt") OffsetDateTime updatedAt, @Param("id") UUID id,
+            @Param("until") OffsetDateTime until, Pageable pageable);
+
+    @Query("select j from JobOpening j where j.companyId = :companyId"
+            + " and j.updatedAt >= :updatedAt and (j.updatedAt > :updatedAt or j.id > :id)"
+            + " and j.updatedAt <= :until order by j.updatedAt asc, j.id asc")
+    List<JobOpening> findChangedByCompanyIdAfter(@Param("companyId") UUID companyId,
+            @Param("updatedAt") OffsetDateTime updatedAt, @Param("id") UUID id,
+            @Param("until") OffsetDateTime until, Pageable pageable);
+
+    @Query("select j.contractType as value, count(j) as count from JobOpening j"
+            + " where j.campaignId = :campaignId and j.contractType is not null"
+            + " group by j.contractType order by count(j) desc, j.contractType asc")
+    List<FacetCount> countByContractType(@Param("campaignId") UUID campaignId);
+
+    @Query("select j.location as value, count(j) as count from JobOpening j"
+            + " where j.campaignId = :campaignId and j.location is not null"
+            + " group by j.location order by count(j) desc, j.location asc")
+    List<FacetCount> countByLocation(@Param("campaignId") UUID campaignId);
+
+    @Query(value = "select t.tag as value, count(*) as count"
+            + " from job_opening j cross join unnest(j.tag_list) as t(tag)"
+            + " where j.campaign_id = :campaignId"
+            + " group by t.tag order by count(*) desc, t.tag asc", nativeQuery = true)
+    List<FacetCount> countByTag(@Param("campaignId") UUID campaignId);
+
+    /**
+     * Streams every job opening of a campaign in listing order. The rows are pulled
+     * from a server-side cursor in batches of {@value #EXPORT_FETCH_SIZE}, which
+     * requires the caller to hold a transaction open while consuming the stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select j from JobOpening j where j.campaignId = :campaignId order by j.createdAt asc, j.id asc")
+    Stream<JobOpening> streamByCampaignId(@Param("campaignId") UUID campaignId);
+
+    long countByCampaignIdAndCompanyId(UUID campaignId, UUID companyId);
+
+    boolean existsByIdAndCampaignIdAndCompanyId(UUID id, UUID campaignId, UUID companyId);
+
+    @Query("select new com.stepin.jobopening.repository.JobOpeningScope(j.campaignId, j.companyId)"
+            + " from JobOpening j where j.id = :id")
+    Optional<JobOpeningScope> findScopeById(@Param("id") UUID id);
+
+    /**
+     * Deletes a job opening of a campaign and company in a single statement,
+     * without loading it first.
+     *
+     * @return the number of deleted rows, 0 if no job opening matched
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from JobOpening j where j.id = :id and j.campaignId = :campaignId and j.companyId = :companyId")
+    int deleteByIdAndCampaignIdAndCompanyId(@Param("id") UUID id, @Param("campaignId") UUID campaignId,
+            @Param("companyId") UUID companyId);
 }
@@ -0,0 +1,119 @@
+package com.stepin.jobopening.repository;
+
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Queries whose select list is chosen at runtime. Rows are returned as maps from
+ * attribute name to value, in the order the attributes were requested.
+ * <p>
+ * Also holds the native full-text search and the single-statement writes that rely
+ * on PostgreSQL's {@code RETURNING} clause.
+ */
+public interface JobOpeningRepositoryCustom {
+
+    /**
+     * Selects the given attributes of one job opening.
+     *
+     * @param id     the job opening UUID
+     * @param fields the JobOpening attribute names to select
+     * @return the selected attributes, or empty if the job opening does not exist
+     */
+    Optional<Map<String, Object>> findFieldsById(UUID id, List<String> fields);
+
+    /**
+     * Selects the given attributes of one keyset page of job openings, ordered by
+     * (createdAt, id). {@code createdAt} and {@code id} are always selected as well
+     * so that the caller can build the next cursor.
+     *
+     * @param fields         the JobOpening attribute names to select
+     * @param campaignId     restricts the page to a campaign, or null
+     * @param companyId      restricts the page to a company, or null
+     * @param tagFilter      restricts the page by tags, or null
+     * @param afterCreatedAt the createdAt of the last row of the previous page, or
+     *                       null for the first page
+     * @param afterId        the id of the last row of the previous page, or null
+     *                       for the first page
+     * @param limit          the maximum number of rows to return
+     * @return the selected rows
+     */
+    List<Map<String, Object>> findFields(List<String> fields, UUID campaignId, UUID companyId,
+            TagFilter tagFilter, OffsetDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Loads one keyset page of job openings, ordered by (createdAt, id). Used for
+     * the tag-filtered listings; the parameters are as for
+     * {@link #findFields(List, UUID, UUID, TagFilter, OffsetDateTime, UUID, int)}.
+     *
+     * @return the job openings of the page
+     */
+    List<JobOpening> findPage(UUID campaignId, UUID companyId, TagFilter tagFilter,
+            OffsetDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Summary variant of
+     * {@link #findPage(UUID, UUID, TagFilter, OffsetDateTime, UUID, int)} that only
+     * selects the summary columns.
+     *
+     * @return the job opening summaries of the page
+     */
+    List<JobOpeningSummaryResponse> findSummaryPage(UUID campaignId, UUID companyId, TagFilter tagFilter,
+            OffsetDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Runs a full-text search over title, tags, requirements and description and
+     * returns one keyset page of hits, ordered by descending rank and then by id.
+     *
+     * @param query      the search text, in web search syntax
+     * @param campaignId restricts the search to a campaign, or null
+     * @param afterRank  the rank of the last hit of the previous page, or null for
+     *                   the first page
+     * @param afterId    the id of the last hit of the previous page, or null for
+     *                   the first page
+     * @param limit      the maximum number of hits to return
+     * @return the matching ids with their rank
+     */
+    List<JobOpeningSearchHit> search(String query, UUID campaignId, Float afterRank, UUID afterId, int limit);
+
+    /**
+     * Overwrites the mutable fields of a job opening with those of {@code values}
+     * and increments its version, in a single {@code UPDATE ... RETURNING}
+     * statement, without loading the row first. The id, scope, creation time and
+     * version of {@code values} are ignored.
+     *
+     * @param id              the job opening id
+     * @param campaignId      restricts the update to a campaign, or null
+     * @param companyId       restricts the update to a company, or null
+     * @param expectedVersion only update if the job opening still has this
+     *                        version, or null to update unconditionally
+     * @param values          the new field values, including tagList and updatedAt
+     * @return the updated job opening, or empty if no job opening matched
+     */
+    Optional<JobOpening> updateFields(UUID id, UUID campaignId, UUID companyId, Long expectedVersion,
+            JobOpening values);
+
+    /**
+     * Deletes a job opening in a single {@code DELETE ... RETURNING} statement and
+     * reports the campaign and company it belonged to.
+     *
+     * @param id the job opening id
+     * @return the scope of the deleted job opening, or empty if it did not exist
+     */
+    Optional<JobOpeningScope> deleteReturningScope(UUID id);
+
+    /**
+     * Deletes every job opening of a campaign and company in a single
+     * {@code DELETE ... RETURNING} statement.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @return the ids of the deleted job openings
+     */
+    List<UUID> deleteAllReturningIds(UUID campaignId, UUID companyId);
+}
@@ -0,0 +1,275 @@
+package com.stepin.jobopening.repository;
+
+import com.stepin.jobopening.config.TagArrayFunctionContributor;
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+class JobOpeningRepositoryCustomImpl implements JobOpeningRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    JobOpeningRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(UUID id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobOpening> root = query.from(JobOpening.class);
+
+        query.multiselect(selections(root, fields)).where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(JobOpeningRepositoryCustomImpl::toMap);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(List<String> fields, UUID campaignId, UUID companyId,
+            TagFilter tagFilter, OffsetDateTime afterCreatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobOpening> root = query.from(JobOpening.class);
+
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add("createdAt");
+        selected.add("id");
+
+        query.multiselect(selections(root, selected));
+        keysetPage(cb, query, root, campaignId, companyId, tagFilter, afterCreatedAt, afterId);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(JobOpeningRepositoryCustomImpl::toMap)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<JobOpening> findPage(UUID campaignId, UUID companyId, TagFilter tagFilter,
+            OffsetDateTime afterCreatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobOpening> query = cb.createQuery(JobOpening.class);
+        Root<JobOpening> root = query.from(JobOpening.class);
+
+        query.select(root);
+        keysetPage(cb, query, root, campaignId, companyId, tagFilter, afterCreatedAt, afterId);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<JobOpeningSummaryResponse> findSummaryPage(UUID campaignId, UUID companyId, TagFilter tagFilter,
+            OffsetDateTime afterCreatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobOpeningSummaryResponse> query = cb.createQuery(JobOpeningSummaryResponse.class);
+        Root<JobOpening> root = query.from(JobOpening.class);
+
+        query.select(cb.construct(JobOpeningSummaryResponse.class,
+                root.get("id"), root.get("campaignId"), root.get("companyId"), root.get("title"),
+                root.get("location"), root.get("contractType"), root.get("tags"), root.get("createdAt")));
+        keysetPage(cb, query, root, campaignId, companyId, tagFilter, afterCreatedAt, afterId);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<JobOpeningSearchHit> search(String query, UUID campaignId, Float afterRank, UUID afterId,
+            int limit) {
+        StringBuilder sql = new StringBuilder()
+                .append("select ranked.job_opening_id, ranked.rank from (")
+                .append(" select j.job_opening_id, ts_rank(j.search_vector, q) as rank")
+                .append(" from job_opening j, websearch_to_tsquery('simple', :query) q")
+                .append(" where j.search_vector @@ q");
+        if (campaignId != null) {
+            sql.append(" and j.campaign_id = :campaignId");
+        }
+        sql.append(") ranked");
+        if (afterRank != null) {
+            sql.append(" where ranked.rank < cast(:afterRank as real)")
+                    .append(" or (ranked.rank = cast(:afterRank as real) and ranked.job_opening_id > :afterId)");
+        }
+        sql.append(" order by ranked.rank desc, ranked.job_opening_id asc");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", query)
+                .setMaxResults(limit);
+        if (campaignId != null) {
+            nativeQuery.setParameter("campaignId", campaignId);
+        }
+        if (afterRank != null) {
+            nativeQuery.setParameter("afterRank", afterRank);
+            nativeQuery.setParameter("afterId", afterId);
+        }
+
+        List<?> rows = nativeQuery.getResultList();
+        List<JobOpeningSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            hits.add(new JobOpeningSearchHit((UUID) columns[0], ((Number) columns[1]).floatValue()));
+        }
+        return hits;
+    }
+
+    @Override
+    @Transactional
+    public Optional<JobOpening> updateFields(UUID id, UUID campaignId, UUID companyId, Long expectedVersion,
+            JobOpening values) {
+        StringBuilder sql = new StringBuilder()
+                .append("update job_opening set title = :title, description = :description,")
+                .append(" contract_type = :contractType, duration = :duration, location = :location,")
+                .append(" max_participants = :maxParticipants, requirements = :requirements,")
+                .append(" benefits = :benefits, tags = :tags, tag_list = string_to_array(:tagList, ','),")
+                .append(" updated_at = :updatedAt, version = version + 1")
+                .append(" where job_opening_id = :id");
+        if (campaignId != null) {
+            sql.append(" and campaign_id = :campaignId");
+        }
+        if (companyId != null) {
+            sql.append(" and company_id = :companyId");
+        }
+        if (expectedVersion != null) {
+            sql.append(" and version = :expectedVersion");
+        }
+        sql.append(" returning *");
+
+        // Nullable values are bound with their type so that PostgreSQL does not
+        // have to guess the type of a null parameter
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString(), JobOpening.class)
+                .unwrap(NativeQuery.class);
+        query.setParameter("id", id)
+                .setParameter("title", values.getTitle(), String.class)
+                .setParameter("description", values.getDescription(), String.class)
+                .setParameter("contractType", values.getContractType(), String.class)
+                .setParameter("duration", values.getDuration(), String.class)
+                .setParameter("location", values.getLocation(), String.class)
+                .setParameter("maxParticipants", values.getMaxParticipants(), Integer.class)
+                .setParameter("requirements", values.getRequirements(), String.class)
+                .setParameter("benefits", values.getBenefits(), String.class)
+                .setParameter("tags", values.getTags(), String.class)
+                .setParameter("tagList", String.join(",", values.getTagList()))
+                .setParameter("updatedAt", values.getUpdatedAt());
+        if (campaignId != null) {
+            query.setParameter("campaignId", campaignId);
+        }
+        if (companyId != null) {
+            query.setParameter("companyId", companyId);
+        }
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        return query.getResultList().stream()
+                .map(JobOpening.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public Optional<JobOpeningScope> deleteReturningScope(UUID id) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "delete from job_opening where job_opening_id = :id returning campaign_id, company_id")
+                .setParameter("id", id)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(columns -> new JobOpeningScope((UUID) columns[0], (UUID) columns[1]))
+                .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> deleteAllReturningIds(UUID campaignId, UUID companyId) {
+        List<?> rows = entityManager.createNativeQuery("delete from job_opening"
+                        + " where campaign_id = :campaignId and company_id = :companyId returning job_opening_id")
+                .setParameter("campaignId", campaignId)
+                .setParameter("companyId", companyId)
+                .getResultList();
+
+        return rows.stream()
+                .map(UUID.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies the scope, tag and keyset predicates and the (createdAt, id) order
+     * shared by every listing. The keyset predicate is the same as in the JPQL
+     * listings of JobOpeningRepository.
+     */
+    private static void keysetPage(CriteriaBuilder cb, CriteriaQuery<?> query, Root<JobOpening> root,
+            UUID campaignId, UUID companyId, TagFilter tagFilter, OffsetDateTime afterCreatedAt, UUID afterId) {
+        Path<OffsetDateTime> createdAt = root.get("createdAt");
+        Path<UUID> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (campaignId != null) {
+            predicates.add(cb.equal(root.get("campaignId"), campaignId));
+        }
+        if (companyId != null) {
+            predicates.add(cb.equal(root.get("companyId"), companyId));
+        }
+        if (tagFilter != null) {
+            String function = tagFilter.matchAll()
+                    ? TagArrayFunctionContributor.TAGS_CONTAIN_ALL
+                    : TagArrayFunctionContributor.TAGS_OVERLAP;
+            predicates.add(cb.isTrue(cb.function(function, Boolean.class,
+                    root.get("tagList"), cb.literal(String.join(",", tagFilter.tags())))));
+        }
+        if (afterCreatedAt != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, afterCreatedAt));
+            predicates.add(cb.or(
+                    cb.greaterThan(createdAt, afterCreatedAt),
+                    cb.greaterThan(id, afterId)));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(createdAt), cb.asc(id));
+    }
+
+    private static List<Selection<?>> selections(Root<JobOpening> root, Iterable<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+}
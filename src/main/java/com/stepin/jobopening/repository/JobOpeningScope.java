@@ -0,0 +1,9 @@
+package com.stepin.jobopening.repository;
+
+import java.util.UUID;
+
+/**
+ * The campaign and company a job opening belongs to.
+ */
+public record JobOpeningScope(UUID campaignId, UUID companyId) {
+}
@@ -0,0 +1,9 @@
+package com.stepin.jobopening.repository;
+
+import java.util.UUID;
+
+/**
+ * A job opening matching a full-text search, with its relevance rank.
+ */
+public record JobOpeningSearchHit(UUID id, float rank) {
+}
@@ -0,0 +1,10 @@
+package com.stepin.jobopening.repository;
+
+import java.util.List;
+
+/**
+ * Restricts a listing to job openings carrying any, or all, of the given
+ * normalized tags.
+ */
+public record TagFilter(List<String> tags, boolean matchAll) {
+}
@@ -0,0 +1,24 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+
+/**
+ * A page of a listing already encoded as a UTF-8 JSON array, optionally with a
+ * gzip-compressed copy of the same bytes.
+ *
+ * @param json       the JSON array
+ * @param gzip       the gzip-compressed JSON array, or null if compression is off
+ * @param nextCursor the cursor of the next page, or null on the last page
+ * @param version    the listing version read just before the rows, from which
+ *                   the page's ETag is derived
+ */
+public record EncodedPage(byte[] json, byte[] gzip, String nextCursor, JobOpeningListVersion version) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    int weight() {
+        return json.length + (gzip == null ? 0 : gzip.length);
+    }
+}
@@ -0,0 +1,111 @@
+package com.stepin.jobopening.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.stepin.jobopening.dto.JobOpeningResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of job opening responses by id, backing
+ * {@link JobOpeningService#getJobOpening(UUID)}. JobOpeningService replaces an
+ * entry after every create and update and evicts it after every delete; the TTL
+ * only bounds staleness from writes made outside the service.
+ */
+@Component
+public class JobOpeningCache {
+
+    static final String CACHE_NAME = "jobOpenings";
+
+    private final boolean enabled;
+    private final Cache<UUID, JobOpeningResponse> cache;
+
+    @Autowired
+    public JobOpeningCache(
+            @Value("${job-openings.cache.enabled:true}") boolean enabled,
+            @Value("${job-openings.cache.maximum-size:10000}") long maximumSize,
+            @Value("${job-openings.cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, ttl, meterRegistry, Ticker.systemTicker());
+    }
+
+    JobOpeningCache(boolean enabled, long maximumSize, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached response for a job opening, loading and caching it on a
+     * miss. Concurrent misses for the same id share one load. An exception thrown
+     * by the loader propagates and nothing is cached.
+     *
+     * @param jobId  the job opening UUID
+     * @param loader loads the response from the database
+     * @return the job opening response
+     */
+    public JobOpeningResponse get(UUID jobId, Function<UUID, JobOpeningResponse> loader) {
+        if (!enabled) {
+            return loader.apply(jobId);
+        }
+        return cache.get(jobId, loader);
+    }
+
+    /**
+     * Returns the cached responses among the given ids.
+     *
+     * @param jobIds the job opening UUIDs
+     * @return the cached responses by id; ids that are not cached are absent
+     */
+    public Map<UUID, JobOpeningResponse> getAllPresent(Collection<UUID> jobIds) {
+        if (!enabled) {
+            return Map.of();
+        }
+        return cache.getAllPresent(jobIds);
+    }
+
+    /**
+     * Stores the current state of a job opening after it was created or updated.
+     *
+     * @param response the job opening response
+     */
+    public void put(JobOpeningResponse response) {
+        if (enabled) {
+            cache.put(response.getId(), response);
+        }
+    }
+
+    /**
+     * Evicts a job opening, e.g. after it was deleted.
+     *
+     * @param jobId the job opening UUID
+     */
+    public void evict(UUID jobId) {
+        cache.invalidate(jobId);
+    }
+
+    /**
+     * Returns the approximate number of cached job openings.
+     *
+     * @return the estimated cache size
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
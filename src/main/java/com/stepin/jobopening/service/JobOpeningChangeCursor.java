@@ -0,0 +1,64 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over the (changedAt, id) order of the delta-sync feed,
+ * where changedAt is the update time of a job opening or the deletion time of a
+ * tombstone. The encoded form is the URL-safe Base64 of {@code <changedAt instant>|<id>}.
+ */
+record JobOpeningChangeCursor(OffsetDateTime changedAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * The largest UUID in PostgreSQL order; a cursor at (since, MAX_ID) starts
+     * strictly after {@code since}.
+     */
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    /**
+     * The feed order as PostgreSQL sorts it: uuid compares as unsigned bytes,
+     * unlike {@link UUID#compareTo(UUID)}.
+     */
+    static final Comparator<JobOpeningChangeCursor> ORDER = Comparator
+            .comparing((JobOpeningChangeCursor cursor) -> cursor.changedAt().toInstant())
+            .thenComparing(JobOpeningChangeCursor::id, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0
+                        ? high
+                        : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    static JobOpeningChangeCursor after(OffsetDateTime since) {
+        return new JobOpeningChangeCursor(since, MAX_ID);
+    }
+
+    static JobOpeningChangeCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            Instant changedAt = Instant.parse(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return new JobOpeningChangeCursor(changedAt.atOffset(ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = changedAt.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,285 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of job opening changes. Events are taken from
+ * JobOpeningService after the surrounding transaction, if any, has committed.
+ * <p>
+ * Each subscriber has a bounded buffer drained by its own sender task, so a slow
+ * client never blocks the publisher or other subscribers. When a buffer is full
+ * the new event is either dropped or the subscriber is disconnected, depending
+ * on {@code job-openings.change-feed.overflow}.
+ */
+@Component
+public class JobOpeningChangeFeed implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobOpeningChangeFeed.class);
+
+    public enum OverflowPolicy {
+        DROP, DISCONNECT
+    }
+
+    /**
+     * Queued in place of a change to send a keep-alive comment; compared by identity.
+     */
+    private static final JobOpeningChangedEvent HEARTBEAT = new JobOpeningChangedEvent(null, null, null, null);
+
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long timeoutMillis;
+    private final Executor senders;
+    private final ExecutorService ownedSenders;
+    private final ScheduledExecutorService heartbeats;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    @Autowired
+    public JobOpeningChangeFeed(
+            @Value("${job-openings.change-feed.buffer-size:256}") int bufferSize,
+            @Value("${job-openings.change-feed.overflow:DISCONNECT}") OverflowPolicy overflowPolicy,
+            @Value("${job-openings.change-feed.timeout:30m}") Duration timeout,
+            @Value("${job-openings.change-feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+            MeterRegistry meterRegistry) {
+        this(bufferSize, overflowPolicy, timeout, heartbeatInterval, meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    JobOpeningChangeFeed(int bufferSize, OverflowPolicy overflowPolicy, Duration timeout,
+            Duration heartbeatInterval, MeterRegistry meterRegistry, Executor senders) {
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = senders;
+        this.ownedSenders = senders instanceof ExecutorService executorService ? executorService : null;
+
+        if (heartbeatInterval.isZero()) {
+            this.heartbeats = null;
+        } else {
+            this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "job-opening-change-feed-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = heartbeatInterval.toMillis();
+            heartbeats.scheduleAtFixedRate(this::sendHeartbeats, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        this.deliveredCounter = Counter.builder("job-openings.change-feed.delivered")
+                .description("Change events written to subscribers")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("job-openings.change-feed.dropped")
+                .description("Change events dropped because a subscriber buffer was full")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("job-openings.change-feed.disconnected")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+
+        Gauge.builder("job-openings.change-feed.subscribers", subscribers, Set::size)
+                .description("Open change feed subscriptions")
+                .register(meterRegistry);
+        Gauge.builder("job-openings.change-feed.buffered", this, JobOpeningChangeFeed::buffered)
+                .description("Change events waiting in subscriber buffers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription. Null filters match every campaign or company.
+     *
+     * @param campaignId only stream changes of this campaign, or null
+     * @param companyId  only stream changes of this company, or null
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(UUID campaignId, UUID companyId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, campaignId, companyId);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+
+        logger.debug("Opened change feed subscription for campaignId={}, companyId={}", campaignId, companyId);
+
+        return emitter;
+    }
+
+    /**
+     * Queues a change for every subscriber whose filters match it.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobOpeningChanged(JobOpeningChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Queues one deleted change per job opening removed by a bulk delete, so that
+     * subscribers see the same events as for single deletes.
+     *
+     * @param event the bulk delete event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobOpeningsDeleted(JobOpeningsDeletedEvent event) {
+        for (UUID jobOpeningId : event.jobOpeningIds()) {
+            onJobOpeningChanged(new JobOpeningChangedEvent(jobOpeningId, event.campaignId(), event.companyId(),
+                    JobOpeningChangedEvent.Type.DELETED));
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+        if (ownedSenders != null) {
+            ownedSenders.shutdownNow();
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            // A full buffer already has data on its way; no need to force a heartbeat in
+            if (subscriber.queue.offer(HEARTBEAT)) {
+                subscriber.scheduleDrain();
+            }
+        }
+    }
+
+    // Built per send: an SseEventBuilder is not safe to share between sender threads
+    private static SseEmitter.SseEventBuilder toMessage(JobOpeningChangedEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private int buffered() {
+        return subscribers.stream().mapToInt(subscriber -> subscriber.queue.size()).sum();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final UUID campaignId;
+        private final UUID companyId;
+        private final BlockingQueue<JobOpeningChangedEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, UUID campaignId, UUID companyId) {
+            this.emitter = emitter;
+            this.campaignId = campaignId;
+            this.companyId = companyId;
+        }
+
+        private boolean matches(JobOpeningChangedEvent event) {
+            return (campaignId == null || campaignId.equals(event.campaignId()))
+                    && (companyId == null || companyId.equals(event.companyId()));
+        }
+
+        private void offer(JobOpeningChangedEvent event) {
+            if (closed) {
+                return;
+            }
+            if (queue.offer(event)) {
+                scheduleDrain();
+                return;
+            }
+
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                droppedCounter.increment();
+                return;
+            }
+
+            logger.warn("Disconnecting slow change feed subscriber for campaignId={}, companyId={}",
+                    campaignId, companyId);
+            disconnectedCounter.increment();
+            close();
+            emitter.complete();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                JobOpeningChangedEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(toMessage(event));
+                    if (event != HEARTBEAT) {
+                        deliveredCounter.increment();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container reports it through onError/onCompletion as well
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            // An event may have been queued after the loop saw an empty queue
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                subscribers.remove(this);
+                queue.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.domain.JobOpeningDeletion;
+import com.stepin.jobopening.dto.JobOpeningChangesResponse;
+import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.dto.JobOpeningTombstone;
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.mapper.JobOpeningMapper;
+import com.stepin.jobopening.repository.JobOpeningDeletionRepository;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta-sync feed of a campaign or company: the job openings updated after a
+ * position plus the tombstones of those deleted after it, merged in (changedAt, id)
+ * order so that one cursor covers both.
+ * <p>
+ * Changes younger than the settle time are held back. A write whose timestamp was
+ * taken before a concurrent one but which committed after it would otherwise fall
+ * behind a cursor that has already moved past it. The bound is read from the
+ * database clock, which also stamps the tombstones; job openings are stamped by
+ * the application, so the settle time must cover the skew between the two.
+ * <p>
+ * Tombstones older than the retention are pruned. A client that has not synced
+ * within the retention may miss deletions and has to reload everything.
+ */
+@Service
+public class JobOpeningChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobOpeningChangeService.class);
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final JobOpeningDeletionRepository deletionRepository;
+    private final PageLimits pageLimits;
+    private final Duration settleTime;
+    private final Duration retention;
+    private final JobOpeningMapper mapper = JobOpeningMapper.INSTANCE;
+
+    public JobOpeningChangeService(JobOpeningRepository jobOpeningRepository,
+            JobOpeningDeletionRepository deletionRepository,
+            PageLimits pageLimits,
+            @Value("${job-openings.changes.settle-time:5s}") Duration settleTime,
+            @Value("${job-openings.changes.retention:30d}") Duration retention) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.deletionRepository = deletionRepository;
+        this.pageLimits = pageLimits;
+        this.settleTime = settleTime;
+        this.retention = retention;
+    }
+
+    /**
+     * Lists the changes to a campaign's job openings after a position.
+     *
+     * @param campaignId the campaign UUID
+     * @param since      exclusive lower bound of the first sync, ignored when a
+     *                   cursor is given
+     * @param cursor     the nextCursor of the previous response, or null
+     * @param limit      the maximum number of changes, or null for the default
+     * @return the updated job openings and tombstones, oldest first
+     * @throws BadRequestException if neither since nor cursor is given, or the
+     *                             cursor or limit is invalid
+     */
+    public JobOpeningChangesResponse getCampaignChanges(UUID campaignId, OffsetDateTime since, String cursor,
+            Integer limit) {
+        logger.debug("Listing changes for campaignId={}, since={}, cursor={}", campaignId, since, cursor);
+
+        return changes(since, cursor, limit,
+                (from, until, pageable) -> jobOpeningRepository.findChangedByCampaignIdAfter(
+                        campaignId, from.changedAt(), from.id(), until, pageable),
+                (from, until, pageable) -> deletionRepository.findByCampaignIdAfter(
+                        campaignId, from.changedAt(), from.id(), until, pageable));
+    }
+
+    /**
+     * Lists the changes to a company's job openings after a position.
+     *
+     * @param companyId the company UUID
+     * @param since     exclusive lower bound of the first sync, ignored when a
+     *                  cursor is given
+     * @param cursor    the nextCursor of the previous response, or null
+     * @param limit     the maximum number of changes, or null for the default
+     * @return the updated job openings and tombstones, oldest first
+     * @throws BadRequestException if neither since nor cursor is given, or the
+     *                             cursor or limit is invalid
+     */
+    public JobOpeningChangesResponse getCompanyChanges(UUID companyId, OffsetDateTime since, String cursor,
+            Integer limit) {
+        logger.debug("Listing changes for companyId={}, since={}, cursor={}", companyId, since, cursor);
+
+        return changes(since, cursor, limit,
+                (from, until, pageable) -> jobOpeningRepository.findChangedByCompanyIdAfter(
+                        companyId, from.changedAt(), from.id(), until, pageable),
+                (from, until, pageable) -> deletionRepository.findByCompanyIdAfter(
+                        companyId, from.changedAt(), from.id(), until, pageable));
+    }
+
+    /**
+     * Deletes the tombstones older than the retention.
+     *
+     * @return the number of deleted tombstones
+     */
+    @Scheduled(fixedDelayString = "${job-openings.changes.prune-interval:PT1H}")
+    public int pruneTombstones() {
+        OffsetDateTime cutoff = deletionRepository.currentTimestamp().minus(retention);
+        int pruned = deletionRepository.deleteByDeletedAtBefore(cutoff);
+
+        logger.info("Pruned {} job opening tombstones deleted before {}", pruned, cutoff);
+        return pruned;
+    }
+
+    private JobOpeningChangesResponse changes(OffsetDateTime since, String cursor, Integer limit,
+            ChangeQuery<JobOpening> updatedQuery, ChangeQuery<JobOpeningDeletion> deletedQuery) {
+        JobOpeningChangeCursor from = start(since, cursor);
+        int pageSize = pageLimits.resolve(limit);
+        OffsetDateTime until = deletionRepository.currentTimestamp().minus(settleTime);
+        // One extra row per source tells whether more changes follow
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+        List<Change> merged = new ArrayList<>();
+        for (JobOpening jobOpening : updatedQuery.find(from, until, pageable)) {
+            merged.add(new Change(new JobOpeningChangeCursor(jobOpening.getUpdatedAt(), jobOpening.getId()),
+                    jobOpening, null));
+        }
+        for (JobOpeningDeletion deletion : deletedQuery.find(from, until, pageable)) {
+            merged.add(new Change(new JobOpeningChangeCursor(deletion.getDeletedAt(), deletion.getId()),
+                    null, deletion));
+        }
+        merged.sort((a, b) -> JobOpeningChangeCursor.ORDER.compare(a.position(), b.position()));
+
+        boolean hasMore = merged.size() > pageSize;
+        if (hasMore) {
+            merged = merged.subList(0, pageSize);
+        }
+
+        List<JobOpeningResponse> updated = new ArrayList<>();
+        List<JobOpeningTombstone> deleted = new ArrayList<>();
+        for (Change change : merged) {
+            if (change.updated() != null) {
+                updated.add(mapper.toResponse(change.updated()));
+            } else {
+                JobOpeningDeletion deletion = change.deleted();
+                deleted.add(new JobOpeningTombstone(deletion.getId(), deletion.getCampaignId(),
+                        deletion.getCompanyId(), deletion.getDeletedAt()));
+            }
+        }
+        JobOpeningChangeCursor next = merged.isEmpty() ? from : merged.get(merged.size() - 1).position();
+
+        logger.debug("Found {} updated and {} deleted job openings", updated.size(), deleted.size());
+
+        return new JobOpeningChangesResponse(updated, deleted, next.encode(), hasMore);
+    }
+
+    private static JobOpeningChangeCursor start(OffsetDateTime since, String cursor) {
+        if (cursor != null && !cursor.isBlank()) {
+            return JobOpeningChangeCursor.decode(cursor);
+        }
+        if (since == null) {
+            throw new BadRequestException("Either since or cursor is required");
+        }
+        return JobOpeningChangeCursor.after(since);
+    }
+
+    @FunctionalInterface
+    private interface ChangeQuery<T> {
+        List<T> find(JobOpeningChangeCursor from, OffsetDateTime until, Pageable pageable);
+    }
+
+    private record Change(JobOpeningChangeCursor position, JobOpening updated, JobOpeningDeletion deleted) {
+    }
+}
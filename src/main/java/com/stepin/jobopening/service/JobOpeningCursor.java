@@ -0,0 +1,49 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
+import com.stepin.jobopening.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over the (createdAt, id) listing order. The encoded form
+ * is the URL-safe Base64 of {@code <createdAt instant>|<id>}.
+ */
+record JobOpeningCursor(OffsetDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    static JobOpeningCursor of(JobOpening jobOpening) {
+        return new JobOpeningCursor(jobOpening.getCreatedAt(), jobOpening.getId());
+    }
+
+    static JobOpeningCursor ofSummary(JobOpeningSummaryResponse summary) {
+        return new JobOpeningCursor(summary.getCreatedAt(), summary.getId());
+    }
+
+    static JobOpeningCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            Instant createdAt = Instant.parse(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return new JobOpeningCursor(createdAt.atOffset(ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.stepin.jobopening.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.mapper.JobOpeningMapper;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes the job openings of a campaign as newline-delimited JSON without
+ * materializing them in memory: rows are read from a database cursor, written
+ * one at a time and detached from the persistence context right away.
+ */
+@Service
+public class JobOpeningExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobOpeningExportService.class);
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final JobOpeningMapper mapper = JobOpeningMapper.INSTANCE;
+
+    public JobOpeningExportService(JobOpeningRepository jobOpeningRepository, EntityManager entityManager,
+            ObjectMapper objectMapper) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.entityManager = entityManager;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every job opening of a campaign to the output stream, one JSON
+     * object per line. The output stream is flushed but not closed.
+     *
+     * @param campaignId the campaign UUID
+     * @param out        the stream to write to
+     * @return the number of job openings written
+     * @throws IOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true)
+    public long exportCampaign(UUID campaignId, OutputStream out) throws IOException {
+        logger.debug("Exporting job openings for campaignId={}", campaignId);
+
+        long count = 0;
+        try (Stream<JobOpening> jobOpenings = jobOpeningRepository.streamByCampaignId(campaignId);
+                JsonGenerator generator = writer.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated explicitly; Jackson would otherwise prefix every
+            // value after the first with its default root separator, a space.
+            generator.setRootValueSeparator(null);
+
+            Iterator<JobOpening> iterator = jobOpenings.iterator();
+            while (iterator.hasNext()) {
+                JobOpening jobOpening = iterator.next();
+                writer.writeValue(generator, mapper.toResponse(jobOpening));
+                generator.writeRaw('\n');
+                entityManager.detach(jobOpening);
+                count++;
+            }
+            generator.flush();
+        }
+
+        logger.info("Exported {} job openings for campaignId={}", count, campaignId);
+        return count;
+    }
+}
@@ -0,0 +1,98 @@
+package com.stepin.jobopening.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepin.jobopening.dto.FacetValue;
+import com.stepin.jobopening.dto.JobOpeningFacetsResponse;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import com.stepin.jobopening.repository.FacetCount;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the filter facets of a campaign with GROUP BY queries and caches the
+ * result per campaign. The cached entry is evicted whenever a job opening of the
+ * campaign changes; the TTL only bounds staleness from writes made outside this
+ * service.
+ */
+@Service
+public class JobOpeningFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobOpeningFacetService.class);
+
+    static final String CACHE_NAME = "campaignFacets";
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final Cache<UUID, JobOpeningFacetsResponse> cache;
+
+    public JobOpeningFacetService(JobOpeningRepository jobOpeningRepository,
+            @Value("${job-openings.facets-cache.maximum-size:1000}") long maximumSize,
+            @Value("${job-openings.facets-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the contract type, location and tag facets of a campaign.
+     *
+     * @param campaignId the campaign UUID
+     * @return the facet counts of the campaign
+     */
+    public JobOpeningFacetsResponse getCampaignFacets(UUID campaignId) {
+        return cache.get(campaignId, this::computeFacets);
+    }
+
+    /**
+     * Evicts the cached facets of the campaign a changed job opening belongs to.
+     *
+     * @param event the change event
+     */
+    @EventListener
+    public void onJobOpeningChanged(JobOpeningChangedEvent event) {
+        cache.invalidate(event.campaignId());
+    }
+
+    /**
+     * Evicts the cached facets of the campaign a bulk delete emptied for a company.
+     *
+     * @param event the bulk delete event
+     */
+    @EventListener
+    public void onJobOpeningsDeleted(JobOpeningsDeletedEvent event) {
+        cache.invalidate(event.campaignId());
+    }
+
+    private JobOpeningFacetsResponse computeFacets(UUID campaignId) {
+        logger.debug("Computing facets for campaignId={}", campaignId);
+
+        return new JobOpeningFacetsResponse(campaignId,
+                toFacetValues(jobOpeningRepository.countByContractType(campaignId)),
+                toFacetValues(jobOpeningRepository.countByLocation(campaignId)),
+                toFacetValues(jobOpeningRepository.countByTag(campaignId)));
+    }
+
+    private static List<FacetValue> toFacetValues(List<FacetCount> counts) {
+        return counts.stream()
+                .map(count -> new FacetValue(count.getValue(), count.getCount()))
+                .collect(Collectors.toList());
+    }
+}
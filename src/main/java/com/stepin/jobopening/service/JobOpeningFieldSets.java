@@ -0,0 +1,66 @@
+package com.stepin.jobopening.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepin.jobopening.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses and validates the {@code fields} query parameter. Parsed field lists are
+ * cached per distinct parameter value, so repeated requests skip the parsing.
+ */
+@Component
+public class JobOpeningFieldSets {
+
+    /**
+     * The selectable fields, named as in JobOpeningResponse and JobOpening.
+     */
+    public static final List<String> FIELDS = List.of(
+            "id", "campaignId", "companyId", "title", "description", "contractType", "duration", "location",
+            "maxParticipants", "requirements", "benefits", "tags", "createdAt", "updatedAt",
+            "version");
+
+    private final Cache<String, List<String>> parsed;
+
+    public JobOpeningFieldSets(@Value("${job-openings.fields.parse-cache-size:1000}") long parseCacheSize) {
+        this.parsed = Caffeine.newBuilder()
+                .maximumSize(parseCacheSize)
+                .build();
+    }
+
+    /**
+     * Returns the fields named by a comma-separated {@code fields} parameter, in
+     * the order given and without duplicates.
+     *
+     * @param fields the raw parameter value
+     * @return the requested field names
+     * @throws BadRequestException if a field is unknown or none is named
+     */
+    public List<String> parse(String fields) {
+        return parsed.get(fields, JobOpeningFieldSets::doParse);
+    }
+
+    private static List<String> doParse(String fields) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                throw new BadRequestException("Unknown field: " + name);
+            }
+            result.add(name);
+        }
+
+        if (result.isEmpty()) {
+            throw new BadRequestException("fields must name at least one field");
+        }
+        return List.copyOf(result);
+    }
+}
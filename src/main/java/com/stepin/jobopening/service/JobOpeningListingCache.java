@@ -0,0 +1,171 @@
+package com.stepin.jobopening.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.stepin.jobopening.dto.CursorPage;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of campaign listing pages, stored as the JSON bytes sent to the client
+ * so that a hit neither rebuilds the DTOs nor runs Jackson again. Bounded by the
+ * total number of cached bytes.
+ * <p>
+ * Every change to a job opening bumps its campaign's generation, which is part
+ * of the cache key. A page that was being loaded while the change happened is
+ * therefore stored under the old generation and never served. Each page keeps
+ * the listing version read before its rows, so a hit answers conditional
+ * requests without querying the database. A campaign's
+ * generation is forgotten once it has not been read for the TTL, by which time
+ * all of its pages have expired too; a forgotten campaign gets a fresh number, so
+ * a generation is never reused.
+ */
+@Component
+public class JobOpeningListingCache {
+
+    static final String CACHE_NAME = "campaignListings";
+
+    private final boolean enabled;
+    private final boolean gzip;
+    private final ObjectMapper objectMapper;
+    private final Cache<ListingKey, EncodedPage> cache;
+    private final Cache<UUID, Long> generations;
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    @Autowired
+    public JobOpeningListingCache(
+            @Value("${job-openings.listing-cache.enabled:true}") boolean enabled,
+            @Value("${job-openings.listing-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${job-openings.listing-cache.ttl:10m}") Duration ttl,
+            @Value("${job-openings.listing-cache.gzip:true}") boolean gzip,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttl, gzip, objectMapper, meterRegistry, Ticker.systemTicker());
+    }
+
+    JobOpeningListingCache(boolean enabled, DataSize maxSize, Duration ttl, boolean gzip, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ListingKey key, EncodedPage page) -> page.weight())
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .ticker(ticker)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the encoded page of a campaign listing, loading and encoding it on a
+     * miss. The version is read before the rows, so a write landing in between
+     * can only make the stored version older than the rows, never newer. An
+     * exception thrown by either loader propagates and nothing is cached.
+     *
+     * @param campaignId    the campaign UUID
+     * @param cursor        the page cursor, or null for the first page
+     * @param limit         the resolved page size
+     * @param versionLoader reads the campaign's listing version from the database
+     * @param loader        loads the page from the database
+     * @return the encoded page
+     */
+    public EncodedPage get(UUID campaignId, String cursor, int limit, Supplier<JobOpeningListVersion> versionLoader,
+            Supplier<CursorPage<?>> loader) {
+        if (!enabled) {
+            return load(versionLoader, loader);
+        }
+        long generation = generations.get(campaignId, id -> generationSequence.incrementAndGet());
+        ListingKey key = new ListingKey(campaignId, generation, cursor, limit);
+        return cache.get(key, k -> load(versionLoader, loader));
+    }
+
+    /**
+     * Drops every cached page of the campaign a changed job opening belongs to.
+     *
+     * @param event the change event
+     */
+    @EventListener
+    public void onJobOpeningChanged(JobOpeningChangedEvent event) {
+        invalidate(event.campaignId());
+    }
+
+    /**
+     * Drops every cached page of the campaign a bulk delete emptied for a company.
+     *
+     * @param event the bulk delete event
+     */
+    @EventListener
+    public void onJobOpeningsDeleted(JobOpeningsDeletedEvent event) {
+        invalidate(event.campaignId());
+    }
+
+    /**
+     * Returns the approximate number of cached pages.
+     *
+     * @return the estimated cache size
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    long trackedCampaigns() {
+        generations.cleanUp();
+        return generations.estimatedSize();
+    }
+
+    private void invalidate(UUID campaignId) {
+        generations.put(campaignId, generationSequence.incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> key.campaignId().equals(campaignId));
+    }
+
+    private EncodedPage load(Supplier<JobOpeningListVersion> versionLoader, Supplier<CursorPage<?>> loader) {
+        JobOpeningListVersion version = versionLoader.get();
+        CursorPage<?> page = loader.get();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page.getItems());
+            return new EncodedPage(json, gzip ? compress(json) : null, page.getNextCursor(), version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode job opening listing", e);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record ListingKey(UUID campaignId, long generation, String cursor, int limit) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningLookupResponse;
+import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.mapper.JobOpeningMapper;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads many job openings by id in one call. Ids found in {@link JobOpeningCache}
+ * are served from it; the rest are loaded with a single IN query.
+ * <p>
+ * Loaded rows are deliberately not written back to the cache: an update or delete
+ * could evict the entry between this read and the write-back, which would put the
+ * older row back for the whole TTL. Only the single-id read path, whose loads
+ * Caffeine serializes against invalidation, fills the cache.
+ */
+@Service
+public class JobOpeningLookupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobOpeningLookupService.class);
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final JobOpeningCache jobOpeningCache;
+    private final int maxIds;
+    private final JobOpeningMapper mapper = JobOpeningMapper.INSTANCE;
+
+    public JobOpeningLookupService(JobOpeningRepository jobOpeningRepository,
+            JobOpeningCache jobOpeningCache,
+            @Value("${job-openings.lookup.max-ids:100}") int maxIds) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.jobOpeningCache = jobOpeningCache;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Looks up job openings by id. Duplicate ids are returned once.
+     *
+     * @param ids the job opening UUIDs
+     * @return the job openings found, in request order, and the ids not found
+     * @throws BadRequestException if more distinct ids than allowed are requested
+     */
+    public JobOpeningLookupResponse lookupJobOpenings(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > maxIds) {
+            throw new BadRequestException("At most " + maxIds + " ids can be looked up at once");
+        }
+
+        Map<UUID, JobOpeningResponse> found = new HashMap<>(jobOpeningCache.getAllPresent(distinctIds));
+        List<UUID> toLoad = distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!toLoad.isEmpty()) {
+            for (JobOpening jobOpening : jobOpeningRepository.findAllById(toLoad)) {
+                JobOpeningResponse response = mapper.toResponse(jobOpening);
+                found.put(response.getId(), response);
+            }
+        }
+
+        List<JobOpeningResponse> items = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : distinctIds) {
+            JobOpeningResponse response = found.get(id);
+            if (response != null) {
+                items.add(response);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        logger.debug("Looked up {} job openings: {} loaded, {} missing",
+                distinctIds.size(), toLoad.size(), missingIds.size());
+
+        return new JobOpeningLookupResponse(items, missingIds);
+    }
+}
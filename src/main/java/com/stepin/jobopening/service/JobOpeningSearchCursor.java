@@ -0,0 +1,42 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.repository.JobOpeningSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over the (rank desc, id) search order. The encoded form is
+ * the URL-safe Base64 of {@code <rank>|<id>}; the rank is written with
+ * {@link Float#toString(float)}, which round-trips exactly.
+ */
+record JobOpeningSearchCursor(float rank, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    static JobOpeningSearchCursor of(JobOpeningSearchHit hit) {
+        return new JobOpeningSearchCursor(hit.rank(), hit.id());
+    }
+
+    static JobOpeningSearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            float rank = Float.parseFloat(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return new JobOpeningSearchCursor(rank, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,21 +2,50 @@ package com.stepin.jobopening.service;
 
 import com.stepin.jobopening.client.CampaignServiceClient;
 import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.CampaignJobOpenings;
+import com.stepin.jobopening.dto.CursorPage;
 import com.stepin.jobopening.dto.EligibilityResponse;
+import com.stepin.jobopening.dto.JobOpeningBulkDeleteResponse;
 import com.stepin.jobopening.dto.JobOpeningCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
 import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
 import com.stepin.jobopening.dto.JobOpeningUpdateRequest;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import com.stepin.jobopening.exception.BadRequestException;
 import com.stepin.jobopening.exception.BusinessException;
+import com.stepin.jobopening.exception.PreconditionFailedException;
 import com.stepin.jobopening.exception.ResourceNotFoundException;
 import com.stepin.jobopening.mapper.JobOpeningMapper;
 import com.stepin.jobopening.repository.JobOpeningRepository;
+import com.stepin.jobopening.repository.JobOpeningScope;
+import com.stepin.jobopening.repository.JobOpeningSearchHit;
+import com.stepin.jobopening.repository.TagFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,65 +55,211 @@ public class JobOpeningService {
 
     private final JobOpeningRepository jobOpeningRepository;
     private final CampaignServiceClient campaignServiceClient;
+    private final PageLimits pageLimits;
+    private final JobOpeningFieldSets fieldSets;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobOpeningCache jobOpeningCache;
+    private final JobOpeningListingCache listingCache;
+    private final TransactionTemplate transactionTemplate;
     private final JobOpeningMapper mapper = JobOpeningMapper.INSTANCE;
 
     public JobOpeningService(JobOpeningRepository jobOpeningRepository,
-            CampaignServiceClient campaignServiceClient) {
+            CampaignServiceClient campaignServiceClient,
+            PageLimits pageLimits,
+            JobOpeningFieldSets fieldSets,
+            ApplicationEventPublisher eventPublisher,
+            JobOpeningCache jobOpeningCache,
+            JobOpeningListingCache listingCache,
+            PlatformTransactionManager transactionManager) {
         this.jobOpeningRepository = jobOpeningRepository;
         this.campaignServiceClient = campaignServiceClient;
+        this.pageLimits = pageLimits;
+        this.fieldSets = fieldSets;
+        this.eventPublisher = eventPublisher;
+        this.jobOpeningCache = jobOpeningCache;
+        this.listingCache = listingCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * Lists all job openings for a specific campaign and company.
+     * Lists one page of job openings for a specific campaign and company, ordered
+     * by creation time.
      *
      * @param campaignId the campaign UUID
      * @param companyId  the company UUID
-     * @return list of JobOpeningResponse DTOs
+     * @param tags       comma-separated tags to filter by, or null
+     * @param tagMatch   {@code any} (the default) or {@code all} of the tags
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of JobOpeningResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
      */
-    public List<JobOpeningResponse> listJobOpenings(UUID campaignId, UUID companyId) {
-        logger.debug("Listing job openings for campaignId={}, companyId={}", campaignId, companyId);
+    public CursorPage<JobOpeningResponse> listJobOpenings(UUID campaignId, UUID companyId, String tags,
+            String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job openings for campaignId={}, companyId={}, cursor={}, limit={}",
+                campaignId, companyId, cursor, limit);
+
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFiltered(campaignId, companyId, tagFilter, cursor, limit);
+        }
 
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCampaignIdAndCompanyId(campaignId, companyId);
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(
+                        campaignId, companyId, pageable),
+                (after, pageable) -> jobOpeningRepository.findByCampaignIdAndCompanyIdAfter(
+                        campaignId, companyId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::of, mapper::toResponse);
+    }
 
-        logger.debug("Found {} job openings", jobOpenings.size());
+    /**
+     * Lists one page of job opening summaries for a specific campaign and company,
+     * ordered by creation time. Only the summary columns are read.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param tags       comma-separated tags to filter by, or null
+     * @param tagMatch   {@code any} (the default) or {@code all} of the tags
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of JobOpeningSummaryResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
+     */
+    public CursorPage<JobOpeningSummaryResponse> listJobOpeningSummaries(UUID campaignId, UUID companyId,
+            String tags, String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job opening summaries for campaignId={}, companyId={}, cursor={}, limit={}",
+                campaignId, companyId, cursor, limit);
+
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFilteredSummaries(campaignId, companyId, tagFilter, cursor, limit);
+        }
 
-        return jobOpenings.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findSummariesByCampaignIdAndCompanyId(
+                        campaignId, companyId, pageable),
+                (after, pageable) -> jobOpeningRepository.findSummariesByCampaignIdAndCompanyIdAfter(
+                        campaignId, companyId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::ofSummary, Function.identity());
     }
 
     /**
-     * Lists all job openings for a specific company.
+     * Lists one page of job openings for a specific company, ordered by creation
+     * time.
      *
      * @param companyId the company UUID
-     * @return list of JobOpeningResponse DTOs
+     * @param tags      comma-separated tags to filter by, or null
+     * @param tagMatch  {@code any} (the default) or {@code all} of the tags
+     * @param cursor    the cursor returned with the previous page, or null for the
+     *                  first page
+     * @param limit     the requested page size, or null for the default
+     * @return a page of JobOpeningResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
      */
-    public List<JobOpeningResponse> listJobOpeningsByCompany(UUID companyId) {
-        logger.debug("Listing job openings for companyId={}", companyId);
+    public CursorPage<JobOpeningResponse> listJobOpeningsByCompany(UUID companyId, String tags, String tagMatch,
+            String cursor, Integer limit) {
+        logger.debug("Listing job openings for companyId={}, cursor={}, limit={}", companyId, cursor, limit);
 
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyId(companyId);
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFiltered(null, companyId, tagFilter, cursor, limit);
+        }
 
-        logger.debug("Found {} job openings", jobOpenings.size());
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findByCompanyIdOrderByCreatedAtAscIdAsc(companyId, pageable),
+                (after, pageable) -> jobOpeningRepository.findByCompanyIdAfter(
+                        companyId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::of, mapper::toResponse);
+    }
 
-        return jobOpenings.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    /**
+     * Lists one page of job opening summaries for a specific company, ordered by
+     * creation time. Only the summary columns are read.
+     *
+     * @param companyId the company UUID
+     * @param tags      comma-separated tags to filter by, or null
+     * @param tagMatch  {@code any} (the default) or {@code all} of the tags
+     * @param cursor    the cursor returned with the previous page, or null for the
+     *                  first page
+     * @param limit     the requested page size, or null for the default
+     * @return a page of JobOpeningSummaryResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
+     */
+    public CursorPage<JobOpeningSummaryResponse> listJobOpeningSummariesByCompany(UUID companyId, String tags,
+            String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job opening summaries for companyId={}, cursor={}, limit={}",
+                companyId, cursor, limit);
+
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFilteredSummaries(null, companyId, tagFilter, cursor, limit);
+        }
+
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findSummariesByCompanyId(companyId, pageable),
+                (after, pageable) -> jobOpeningRepository.findSummariesByCompanyIdAfter(
+                        companyId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::ofSummary, Function.identity());
     }
 
     /**
-     * Gets a job opening by id.
+     * Returns the row count and latest update time of a listing scope, from which
+     * conditional GETs on the listing endpoints are answered without reading the
+     * rows. A null campaignId or companyId widens the scope to all campaigns or
+     * all companies respectively.
+     *
+     * @param campaignId the campaign UUID, or null
+     * @param companyId  the company UUID, or null
+     * @return the listing version
+     */
+    public JobOpeningListVersion getListVersion(UUID campaignId, UUID companyId) {
+        if (campaignId != null && companyId != null) {
+            return jobOpeningRepository.findListVersionByCampaignIdAndCompanyId(campaignId, companyId);
+        }
+        if (companyId != null) {
+            return jobOpeningRepository.findListVersionByCompanyId(companyId);
+        }
+        return jobOpeningRepository.findListVersionByCampaignId(Objects.requireNonNull(campaignId));
+    }
+
+    /**
+     * Gets a job opening by id, served from {@link JobOpeningCache} when present.
      *
      * @param jobId the job opening UUID
      * @return JobOpeningResponse DTO
      */
     public JobOpeningResponse getJobOpening(UUID jobId) {
-        JobOpening jobOpening = jobOpeningRepository.findById(jobId)
+        return jobOpeningCache.get(jobId, id -> {
+            JobOpening jobOpening = jobOpeningRepository.findById(id)
+                    .orElseThrow(() -> {
+                        logger.warn("Job opening not found: id={}", id);
+                        return new ResourceNotFoundException("Job opening not found");
+                    });
+
+            return mapper.toResponse(jobOpening);
+        });
+    }
+
+    /**
+     * Gets the requested fields of a job opening by id. Only those columns are
+     * selected.
+     *
+     * @param jobId  the job opening UUID
+     * @param fields comma-separated JobOpeningResponse field names
+     * @return the requested fields, in the order given
+     * @throws BadRequestException       if a field is unknown
+     * @throws ResourceNotFoundException if the job opening is not found
+     */
+    public Map<String, Object> getJobOpeningFields(UUID jobId, String fields) {
+        List<String> fieldList = fieldSets.parse(fields);
+
+        return jobOpeningRepository.findFieldsById(jobId, fieldList)
                 .orElseThrow(() -> {
                     logger.warn("Job opening not found: id={}", jobId);
                     return new ResourceNotFoundException("Job opening not found");
                 });
-
-        return mapper.toResponse(jobOpening);
     }
 
     /**
@@ -95,27 +270,11 @@ public class JobOpeningService {
      * @return the updated JobOpeningResponse DTO
      */
     public JobOpeningResponse updateJobOpening(UUID jobId, JobOpeningUpdateRequest request) {
-        JobOpening jobOpening = jobOpeningRepository.findById(jobId)
-                .orElseThrow(() -> {
-                    logger.warn("Job opening not found: id={}", jobId);
-                    return new ResourceNotFoundException("Job opening not found");
-                });
-
-        EligibilityResponse eligibility = campaignServiceClient.checkEligibility(
-                jobOpening.getCampaignId(), jobOpening.getCompanyId());
-        if (!eligibility.isCanMutateJobs()) {
-            logger.warn("Company not eligible to update job opening: {}", eligibility.getReason());
-            throw new BusinessException(eligibility.getReason());
-        }
-
-        mapper.updateEntity(request, jobOpening);
-        jobOpening.setUpdatedAt(OffsetDateTime.now());
-
-        JobOpening updatedJobOpening = jobOpeningRepository.save(jobOpening);
+        JobOpeningScope scope = findScope(jobId);
 
-        logger.info("Updated job opening with id={}", updatedJobOpening.getId());
+        requireEligible(campaignServiceClient.checkEligibility(scope.campaignId(), scope.companyId()), "update");
 
-        return mapper.toResponse(updatedJobOpening);
+        return applyUpdate(jobId, scope.campaignId(), scope.companyId(), null, request);
     }
 
     /**
@@ -134,121 +293,347 @@ public class JobOpeningService {
                 campaignId, companyId, request.getTitle());
 
         // Check eligibility
-        EligibilityResponse eligibility = campaignServiceClient.checkEligibility(campaignId, companyId);
-        if (!eligibility.isCanMutateJobs()) {
-            logger.warn("Company not eligible to create job opening: {}", eligibility.getReason());
-            throw new BusinessException(eligibility.getReason());
-        }
+        requireEligible(campaignServiceClient.checkEligibility(campaignId, companyId), "create");
 
-        // Create job opening
-        JobOpening jobOpening = mapper.toEntity(request);
-        jobOpening.setId(UUID.randomUUID());
-        jobOpening.setCampaignId(campaignId);
-        jobOpening.setCompanyId(companyId);
+        return saveNewJobOpening(campaignId, companyId, request);
+    }
 
-        OffsetDateTime now = OffsetDateTime.now();
-        jobOpening.setCreatedAt(now);
-        jobOpening.setUpdatedAt(now);
+    /**
+     * Creates several job openings for one campaign and company. Eligibility is
+     * checked once, then all rows are inserted in a single transaction, which
+     * Hibernate sends as JDBC batches. Either every job opening is created or none.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param requests   the job opening creation requests
+     * @return the created JobOpeningResponse DTOs, in request order
+     * @throws BusinessException if the company is not eligible to create job
+     *                           openings
+     */
+    public List<JobOpeningResponse> createJobOpenings(UUID campaignId, UUID companyId,
+            List<JobOpeningCreateRequest> requests) {
+        logger.debug("Creating {} job openings for campaignId={}, companyId={}",
+                requests.size(), campaignId, companyId);
 
-        JobOpening savedJobOpening = jobOpeningRepository.save(jobOpening);
+        requireEligible(campaignServiceClient.checkEligibility(campaignId, companyId), "create");
 
-        logger.info("Created job opening with id={}", savedJobOpening.getId());
+        List<JobOpening> jobOpenings = requests.stream()
+                .map(request -> newJobOpening(campaignId, companyId, request))
+                .collect(Collectors.toList());
+        List<JobOpening> savedJobOpenings = transactionTemplate.execute(
+                status -> jobOpeningRepository.saveAll(jobOpenings));
 
-        return mapper.toResponse(savedJobOpening);
+        // Caches and listeners only hear about the rows once they are committed
+        return savedJobOpenings.stream()
+                .map(this::afterCreate)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Updates an existing job opening after checking eligibility.
+     * Asynchronous variant of
+     * {@link #createJobOpening(UUID, UUID, JobOpeningCreateRequest)}. The calling
+     * thread is released while the eligibility check is pending.
      *
      * @param campaignId the campaign UUID
      * @param companyId  the company UUID
-     * @param jobId      the job opening UUID
-     * @param request    the job opening update request
+     * @param request    the job opening creation request
+     * @return a future completing with the created JobOpeningResponse DTO
+     */
+    public CompletableFuture<JobOpeningResponse> createJobOpeningAsync(UUID campaignId, UUID companyId,
+            JobOpeningCreateRequest request) {
+        logger.debug("Creating job opening asynchronously for campaignId={}, companyId={}, title={}",
+                campaignId, companyId, request.getTitle());
+
+        return campaignServiceClient.checkEligibilityAsync(campaignId, companyId)
+                .publishOn(Schedulers.boundedElastic())
+                .map(eligibility -> {
+                    requireEligible(eligibility, "create");
+                    return saveNewJobOpening(campaignId, companyId, request);
+                })
+                .toFuture();
+    }
+
+    /**
+     * Updates an existing job opening after checking eligibility.
+     *
+     * @param campaignId      the campaign UUID
+     * @param companyId       the company UUID
+     * @param jobId           the job opening UUID
+     * @param request         the job opening update request
+     * @param expectedVersion the version the client last read (from If-Match), or
+     *                        null to update whatever the current version
      * @return the updated JobOpeningResponse DTO
-     * @throws BusinessException         if the company is not eligible to update
-     *                                   job openings
-     * @throws ResourceNotFoundException if the job opening is not found
+     * @throws BusinessException           if the company is not eligible to update
+     *                                     job openings
+     * @throws ResourceNotFoundException   if the job opening is not found
+     * @throws PreconditionFailedException if the job opening has been modified
+     *                                     since expectedVersion
      */
     public JobOpeningResponse updateJobOpening(UUID campaignId, UUID companyId, UUID jobId,
-            JobOpeningUpdateRequest request) {
+            JobOpeningUpdateRequest request, Long expectedVersion) {
         logger.debug("Updating job opening id={} for campaignId={}, companyId={}",
                 jobId, campaignId, companyId);
 
-        // Check eligibility
-        EligibilityResponse eligibility = campaignServiceClient.checkEligibility(campaignId, companyId);
-        if (!eligibility.isCanMutateJobs()) {
-            logger.warn("Company not eligible to update job opening: {}", eligibility.getReason());
-            throw new BusinessException(eligibility.getReason());
-        }
+        requireEligible(campaignServiceClient.checkEligibility(campaignId, companyId), "update");
 
-        // Find job opening
-        JobOpening jobOpening = jobOpeningRepository
-                .findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)
-                .orElseThrow(() -> {
-                    logger.warn("Job opening not found: id={}, campaignId={}, companyId={}",
-                            jobId, campaignId, companyId);
-                    return new ResourceNotFoundException("Job opening not found");
-                });
+        return applyUpdate(jobId, campaignId, companyId, expectedVersion, request);
+    }
 
-        // Update fields
-        mapper.updateEntity(request, jobOpening);
-        jobOpening.setUpdatedAt(OffsetDateTime.now());
+    /**
+     * Asynchronous variant of
+     * {@link #updateJobOpening(UUID, UUID, UUID, JobOpeningUpdateRequest, Long)}.
+     * The calling thread is released while the eligibility check is pending.
+     *
+     * @param campaignId      the campaign UUID
+     * @param companyId       the company UUID
+     * @param jobId           the job opening UUID
+     * @param request         the job opening update request
+     * @param expectedVersion the version the client last read, or null
+     * @return a future completing with the updated JobOpeningResponse DTO
+     */
+    public CompletableFuture<JobOpeningResponse> updateJobOpeningAsync(UUID campaignId, UUID companyId,
+            UUID jobId, JobOpeningUpdateRequest request, Long expectedVersion) {
+        logger.debug("Updating job opening id={} asynchronously for campaignId={}, companyId={}",
+                jobId, campaignId, companyId);
 
-        JobOpening updatedJobOpening = jobOpeningRepository.save(jobOpening);
+        return campaignServiceClient.checkEligibilityAsync(campaignId, companyId)
+                .publishOn(Schedulers.boundedElastic())
+                .map(eligibility -> {
+                    requireEligible(eligibility, "update");
+                    return applyUpdate(jobId, campaignId, companyId, expectedVersion, request);
+                })
+                .toFuture();
+    }
 
-        logger.info("Updated job opening with id={}", updatedJobOpening.getId());
+    /**
+     * Lists one page of job openings for a specific campaign across all companies,
+     * ordered by creation time.
+     *
+     * @param campaignId the campaign UUID
+     * @param tags       comma-separated tags to filter by, or null
+     * @param tagMatch   {@code any} (the default) or {@code all} of the tags
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of JobOpeningResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
+     */
+    public CursorPage<JobOpeningResponse> listJobOpeningsByCampaign(UUID campaignId, String tags,
+            String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job openings for campaignId={}, cursor={}, limit={}", campaignId, cursor, limit);
+
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFiltered(campaignId, null, tagFilter, cursor, limit);
+        }
 
-        return mapper.toResponse(updatedJobOpening);
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findByCampaignIdOrderByCreatedAtAscIdAsc(campaignId, pageable),
+                (after, pageable) -> jobOpeningRepository.findByCampaignIdAfter(
+                        campaignId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::of, mapper::toResponse);
+    }
+
+    /**
+     * Lists one page of job openings for a specific campaign across all companies
+     * as ready-to-send JSON, served from {@link JobOpeningListingCache} when the
+     * page is cached.
+     *
+     * @param campaignId the campaign UUID
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return the encoded page
+     * @throws BadRequestException if the cursor or limit is invalid
+     */
+    public EncodedPage listEncodedJobOpeningsByCampaign(UUID campaignId, String cursor, Integer limit) {
+        return listingCache.get(campaignId, cursor, pageLimits.resolve(limit),
+                () -> getListVersion(campaignId, null),
+                () -> listJobOpeningsByCampaign(campaignId, null, null, cursor, limit));
     }
 
+    /**
+     * Lists one page of job openings across several campaigns, optionally for one
+     * company, with a single query ordered by creation time. The page is grouped
+     * by campaign, in the order the campaigns were requested; campaigns without
+     * job openings on the page are left out.
+     *
+     * @param campaignIds the campaign UUIDs
+     * @param companyId   the company UUID, or null for all companies
+     * @param cursor      the cursor returned with the previous page, or null for the
+     *                    first page
+     * @param limit       the requested page size, or null for the default
+     * @return a page of per-campaign groups
+     * @throws BadRequestException if no or too many campaigns are requested, or the
+     *                             cursor or limit is invalid
+     */
+    public CursorPage<CampaignJobOpenings> listJobOpeningsByCampaigns(Collection<UUID> campaignIds,
+            UUID companyId, String cursor, Integer limit) {
+        Set<UUID> distinctCampaignIds = new LinkedHashSet<>(campaignIds);
+        pageLimits.checkCampaignCount(distinctCampaignIds.size());
+
+        logger.debug("Listing job openings for campaignIds={}, companyId={}, cursor={}, limit={}",
+                distinctCampaignIds, companyId, cursor, limit);
+
+        CursorPage<JobOpeningResponse> page = companyId == null
+                ? page(cursor, limit,
+                        pageable -> jobOpeningRepository.findByCampaignIdInOrderByCreatedAtAscIdAsc(
+                                distinctCampaignIds, pageable),
+                        (after, pageable) -> jobOpeningRepository.findByCampaignIdInAfter(
+                                distinctCampaignIds, after.createdAt(), after.id(), pageable),
+                        JobOpeningCursor::of, mapper::toResponse)
+                : page(cursor, limit,
+                        pageable -> jobOpeningRepository.findByCampaignIdInAndCompanyIdOrderByCreatedAtAscIdAsc(
+                                distinctCampaignIds, companyId, pageable),
+                        (after, pageable) -> jobOpeningRepository.findByCampaignIdInAndCompanyIdAfter(
+                                distinctCampaignIds, companyId, after.createdAt(), after.id(), pageable),
+                        JobOpeningCursor::of, mapper::toResponse);
+
+        Map<UUID, List<JobOpeningResponse>> byCampaign = new LinkedHashMap<>();
+        distinctCampaignIds.forEach(campaignId -> byCampaign.put(campaignId, new ArrayList<>()));
+        page.getItems().forEach(item -> byCampaign.get(item.getCampaignId()).add(item));
+
+        List<CampaignJobOpenings> groups = byCampaign.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> new CampaignJobOpenings(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
 
+        return new CursorPage<>(groups, page.getNextCursor());
+    }
 
     /**
-     * Lists all job openings for a specific campaign across all companies.
+     * Lists one page of job opening summaries for a specific campaign across all
+     * companies, ordered by creation time. Only the summary columns are read.
      *
      * @param campaignId the campaign UUID
-     * @return list of JobOpeningResponse DTOs
+     * @param tags       comma-separated tags to filter by, or null
+     * @param tagMatch   {@code any} (the default) or {@code all} of the tags
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of JobOpeningSummaryResponse DTOs
+     * @throws BadRequestException if the cursor, limit or tag match is invalid
      */
-    public List<JobOpeningResponse> listJobOpeningsByCampaign(UUID campaignId) {
-        logger.debug("Listing job openings for campaignId={}", campaignId);
-
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCampaignId(campaignId);
+    public CursorPage<JobOpeningSummaryResponse> listJobOpeningSummariesByCampaign(UUID campaignId, String tags,
+            String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job opening summaries for campaignId={}, cursor={}, limit={}",
+                campaignId, cursor, limit);
+
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+        if (tagFilter != null) {
+            return pageFilteredSummaries(campaignId, null, tagFilter, cursor, limit);
+        }
 
-        logger.debug("Found {} job openings", jobOpenings.size());
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findSummariesByCampaignId(campaignId, pageable),
+                (after, pageable) -> jobOpeningRepository.findSummariesByCampaignIdAfter(
+                        campaignId, after.createdAt(), after.id(), pageable),
+                JobOpeningCursor::ofSummary, Function.identity());
+    }
 
-        return jobOpenings.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    /**
+     * Lists one page of job openings for a campaign and/or company, selecting only
+     * the requested fields. Pagination works as in
+     * {@link #listJobOpenings(UUID, UUID, String, String, String, Integer)}.
+     *
+     * @param campaignId the campaign UUID, or null for all campaigns
+     * @param companyId  the company UUID, or null for all companies
+     * @param fields     comma-separated JobOpeningResponse field names
+     * @param tags       comma-separated tags to filter by, or null
+     * @param tagMatch   {@code any} (the default) or {@code all} of the tags
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of rows holding the requested fields, in the order given
+     * @throws BadRequestException if a field, the cursor, the limit or the tag
+     *                             match is invalid
+     */
+    public CursorPage<Map<String, Object>> listJobOpeningFields(UUID campaignId, UUID companyId, String fields,
+            String tags, String tagMatch, String cursor, Integer limit) {
+        logger.debug("Listing job opening fields [{}] for campaignId={}, companyId={}, cursor={}, limit={}",
+                fields, campaignId, companyId, cursor, limit);
+
+        List<String> fieldList = fieldSets.parse(fields);
+        TagFilter tagFilter = JobOpeningTags.filter(tags, tagMatch);
+
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findFields(
+                        fieldList, campaignId, companyId, tagFilter, null, null, pageable.getPageSize()),
+                (after, pageable) -> jobOpeningRepository.findFields(fieldList, campaignId, companyId,
+                        tagFilter, after.createdAt(), after.id(), pageable.getPageSize()),
+                row -> new JobOpeningCursor((OffsetDateTime) row.get("createdAt"), (UUID) row.get("id")),
+                row -> retainFields(row, fieldList));
     }
 
+    /**
+     * Searches job openings by title, tags, requirements and description, most
+     * relevant first.
+     *
+     * @param query      the search text; quoted phrases, {@code or} and
+     *                   {@code -word} are supported
+     * @param campaignId restricts the search to a campaign, or null
+     * @param cursor     the cursor returned with the previous page, or null for the
+     *                   first page
+     * @param limit      the requested page size, or null for the default
+     * @return a page of JobOpeningResponse DTOs in relevance order
+     * @throws BadRequestException if the query is blank, or the cursor or limit is
+     *                             invalid
+     */
+    public CursorPage<JobOpeningResponse> searchJobOpenings(String query, UUID campaignId, String cursor,
+            Integer limit) {
+        logger.debug("Searching job openings for query={}, campaignId={}, cursor={}, limit={}",
+                query, campaignId, cursor, limit);
+
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        int pageSize = pageLimits.resolve(limit);
+        JobOpeningSearchCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : JobOpeningSearchCursor.decode(cursor);
+
+        // One extra hit tells whether another page follows
+        List<JobOpeningSearchHit> hits = jobOpeningRepository.search(query.trim(), campaignId,
+                after == null ? null : after.rank(), after == null ? null : after.id(), pageSize + 1);
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            nextCursor = JobOpeningSearchCursor.of(hits.get(pageSize - 1)).encode();
+        }
+
+        // The search only returns ids; load the page in one query and restore rank order
+        Map<UUID, JobOpening> jobOpenings = jobOpeningRepository.findAllById(
+                hits.stream().map(JobOpeningSearchHit::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(JobOpening::getId, Function.identity()));
 
+        logger.debug("Found {} job openings", hits.size());
+
+        return new CursorPage<>(hits.stream()
+                .map(hit -> jobOpenings.get(hit.id()))
+                .filter(Objects::nonNull)
+                .map(mapper::toResponse)
+                .collect(Collectors.toList()), nextCursor);
+    }
 
     /**
      * Updates a job opening by ID without eligibility check.
      *
-     * @param jobId   the job opening UUID
-     * @param request the job opening update request
+     * @param jobId           the job opening UUID
+     * @param request         the job opening update request
+     * @param expectedVersion the version the client last read (from If-Match), or
+     *                        null to update whatever the current version
      * @return the updated JobOpeningResponse DTO
-     * @throws ResourceNotFoundException if the job opening is not found
+     * @throws ResourceNotFoundException   if the job opening is not found
+     * @throws PreconditionFailedException if the job opening has been modified
+     *                                     since expectedVersion
      */
-    public JobOpeningResponse updateJobOpeningById(UUID jobId, JobOpeningUpdateRequest request) {
+    public JobOpeningResponse updateJobOpeningById(UUID jobId, JobOpeningUpdateRequest request,
+            Long expectedVersion) {
         logger.debug("Updating job opening id={}", jobId);
 
-        JobOpening jobOpening = jobOpeningRepository.findById(jobId)
-                .orElseThrow(() -> {
-                    logger.warn("Job opening not found: id={}", jobId);
-                    return new ResourceNotFoundException("Job opening not found");
-                });
-
-        // Update fields
-        mapper.updateEntity(request, jobOpening);
-        jobOpening.setUpdatedAt(OffsetDateTime.now());
-
-        JobOpening updatedJobOpening = jobOpeningRepository.save(jobOpening);
-
-        logger.info("Updated job opening with id={}", updatedJobOpening.getId());
-
-        return mapper.toResponse(updatedJobOpening);
+        return applyUpdate(jobId, null, null, expectedVersion, request);
     }
 
     /**
@@ -260,16 +645,13 @@ public class JobOpeningService {
     public void deleteJobOpeningById(UUID jobId) {
         logger.debug("Deleting job opening id={}", jobId);
 
-        JobOpening jobOpening = jobOpeningRepository.findById(jobId)
+        JobOpeningScope scope = jobOpeningRepository.deleteReturningScope(jobId)
                 .orElseThrow(() -> {
                     logger.warn("Job opening not found: id={}", jobId);
                     return new ResourceNotFoundException("Job opening not found");
                 });
 
-        // Delete job opening
-        jobOpeningRepository.delete(jobOpening);
-
-        logger.info("Deleted job opening with id={}", jobId);
+        afterDelete(jobId, scope.campaignId(), scope.companyId());
     }
 
     /**
@@ -286,26 +668,70 @@ public class JobOpeningService {
         logger.debug("Deleting job opening id={} for campaignId={}, companyId={}",
                 jobId, campaignId, companyId);
 
-        // Check eligibility
-        EligibilityResponse eligibility = campaignServiceClient.checkEligibility(campaignId, companyId);
-        if (!eligibility.isCanMutateJobs()) {
-            logger.warn("Company not eligible to delete job opening: {}", eligibility.getReason());
-            throw new BusinessException(eligibility.getReason());
+        requireEligible(campaignServiceClient.checkEligibility(campaignId, companyId), "delete");
+
+        applyDelete(jobId, campaignId, companyId);
+    }
+
+    /**
+     * Deletes every job opening of a campaign and company after a single
+     * eligibility check, in one set-based DELETE. A dry run only counts the job
+     * openings that would be deleted; it checks eligibility as well, so it fails
+     * exactly when the real deletion would.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param dryRun     whether to only count instead of deleting
+     * @return the number of deleted, or in a dry run deletable, job openings
+     * @throws BusinessException if the company is not eligible to delete job
+     *                           openings
+     */
+    public JobOpeningBulkDeleteResponse deleteJobOpenings(UUID campaignId, UUID companyId, boolean dryRun) {
+        logger.debug("Deleting all job openings for campaignId={}, companyId={}, dryRun={}",
+                campaignId, companyId, dryRun);
+
+        requireEligible(campaignServiceClient.checkEligibility(campaignId, companyId), "delete");
+
+        if (dryRun) {
+            return new JobOpeningBulkDeleteResponse(
+                    jobOpeningRepository.countByCampaignIdAndCompanyId(campaignId, companyId), true);
         }
 
-        // Find job opening
-        JobOpening jobOpening = jobOpeningRepository
-                .findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)
-                .orElseThrow(() -> {
-                    logger.warn("Job opening not found: id={}, campaignId={}, companyId={}",
-                            jobId, campaignId, companyId);
-                    return new ResourceNotFoundException("Job opening not found");
-                });
+        List<UUID> deletedIds = jobOpeningRepository.deleteAllReturningIds(campaignId, companyId);
+        for (UUID jobId : deletedIds) {
+            jobOpeningCache.evict(jobId);
+        }
+        // One event for the whole delete, so campaign-wide caches are invalidated once
+        if (!deletedIds.isEmpty()) {
+            eventPublisher.publishEvent(new JobOpeningsDeletedEvent(campaignId, companyId, deletedIds));
+        }
+
+        logger.info("Deleted {} job openings for campaignId={}, companyId={}",
+                deletedIds.size(), campaignId, companyId);
+        return new JobOpeningBulkDeleteResponse(deletedIds.size(), false);
+    }
 
-        // Delete job opening
-        jobOpeningRepository.delete(jobOpening);
+    /**
+     * Asynchronous variant of {@link #deleteJobOpening(UUID, UUID, UUID)}. The
+     * calling thread is released while the eligibility check is pending.
+     *
+     * @param campaignId the campaign UUID
+     * @param companyId  the company UUID
+     * @param jobId      the job opening UUID
+     * @return a future completing once the job opening is deleted
+     */
+    public CompletableFuture<Void> deleteJobOpeningAsync(UUID campaignId, UUID companyId, UUID jobId) {
+        logger.debug("Deleting job opening id={} asynchronously for campaignId={}, companyId={}",
+                jobId, campaignId, companyId);
 
-        logger.info("Deleted job opening with id={}", jobId);
+        return campaignServiceClient.checkEligibilityAsync(campaignId, companyId)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(eligibility -> {
+                    requireEligible(eligibility, "delete");
+                    applyDelete(jobId, campaignId, companyId);
+                })
+                .then()
+                .toFuture();
     }
 
     /**
@@ -314,21 +740,183 @@ public class JobOpeningService {
      * @param jobId the job opening UUID
      */
     public void deleteJobOpening(UUID jobId) {
-        JobOpening jobOpening = jobOpeningRepository.findById(jobId)
+        JobOpeningScope scope = findScope(jobId);
+
+        requireEligible(campaignServiceClient.checkEligibility(scope.campaignId(), scope.companyId()), "delete");
+
+        applyDelete(jobId, scope.campaignId(), scope.companyId());
+    }
+
+    private <R, T> CursorPage<T> page(String cursor, Integer limit,
+            Function<Pageable, List<R>> firstPage,
+            BiFunction<JobOpeningCursor, Pageable, List<R>> nextPage,
+            Function<R, JobOpeningCursor> cursorOf,
+            Function<R, T> toResponse) {
+        int pageSize = pageLimits.resolve(limit);
+        // One extra row tells whether another page follows
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+        List<R> rows = cursor == null || cursor.isBlank()
+                ? firstPage.apply(pageable)
+                : nextPage.apply(JobOpeningCursor.decode(cursor), pageable);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(pageSize - 1)).encode();
+        }
+
+        logger.debug("Found {} job openings", rows.size());
+
+        return new CursorPage<>(rows.stream()
+                .map(toResponse)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    private CursorPage<JobOpeningResponse> pageFiltered(UUID campaignId, UUID companyId, TagFilter tagFilter,
+            String cursor, Integer limit) {
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findPage(
+                        campaignId, companyId, tagFilter, null, null, pageable.getPageSize()),
+                (after, pageable) -> jobOpeningRepository.findPage(
+                        campaignId, companyId, tagFilter, after.createdAt(), after.id(), pageable.getPageSize()),
+                JobOpeningCursor::of, mapper::toResponse);
+    }
+
+    private CursorPage<JobOpeningSummaryResponse> pageFilteredSummaries(UUID campaignId, UUID companyId,
+            TagFilter tagFilter, String cursor, Integer limit) {
+        return page(cursor, limit,
+                pageable -> jobOpeningRepository.findSummaryPage(
+                        campaignId, companyId, tagFilter, null, null, pageable.getPageSize()),
+                (after, pageable) -> jobOpeningRepository.findSummaryPage(
+                        campaignId, companyId, tagFilter, after.createdAt(), after.id(), pageable.getPageSize()),
+                JobOpeningCursor::ofSummary, Function.identity());
+    }
+
+    private static Map<String, Object> retainFields(Map<String, Object> row, List<String> fields) {
+        if (row.size() == fields.size()) {
+            return row;
+        }
+        Map<String, Object> retained = new LinkedHashMap<>();
+        for (String field : fields) {
+            retained.put(field, row.get(field));
+        }
+        return retained;
+    }
+
+    private void requireEligible(EligibilityResponse eligibility, String action) {
+        if (!eligibility.isCanMutateJobs()) {
+            logger.warn("Company not eligible to {} job opening: {}", action, eligibility.getReason());
+            throw new BusinessException(eligibility.getReason());
+        }
+    }
+
+    private JobOpeningResponse saveNewJobOpening(UUID campaignId, UUID companyId,
+            JobOpeningCreateRequest request) {
+        JobOpening savedJobOpening = jobOpeningRepository.save(newJobOpening(campaignId, companyId, request));
+
+        return afterCreate(savedJobOpening);
+    }
+
+    private JobOpening newJobOpening(UUID campaignId, UUID companyId, JobOpeningCreateRequest request) {
+        JobOpening jobOpening = mapper.toEntity(request);
+        jobOpening.setId(UUID.randomUUID());
+        jobOpening.setCampaignId(campaignId);
+        jobOpening.setCompanyId(companyId);
+        jobOpening.setTagList(JobOpeningTags.normalize(jobOpening.getTags()));
+
+        OffsetDateTime now = OffsetDateTime.now();
+        jobOpening.setCreatedAt(now);
+        jobOpening.setUpdatedAt(now);
+        return jobOpening;
+    }
+
+    private JobOpeningResponse afterCreate(JobOpening savedJobOpening) {
+        publishChange(savedJobOpening, JobOpeningChangedEvent.Type.CREATED);
+
+        logger.info("Created job opening with id={}", savedJobOpening.getId());
+
+        JobOpeningResponse response = mapper.toResponse(savedJobOpening);
+        jobOpeningCache.put(response);
+        return response;
+    }
+
+    /**
+     * Reads only the campaign and company of a job opening, for the paths that
+     * must check eligibility before they know the job opening's scope.
+     */
+    private JobOpeningScope findScope(UUID jobId) {
+        return jobOpeningRepository.findScopeById(jobId)
                 .orElseThrow(() -> {
                     logger.warn("Job opening not found: id={}", jobId);
                     return new ResourceNotFoundException("Job opening not found");
                 });
+    }
 
-        EligibilityResponse eligibility = campaignServiceClient.checkEligibility(
-                jobOpening.getCampaignId(), jobOpening.getCompanyId());
-        if (!eligibility.isCanMutateJobs()) {
-            logger.warn("Company not eligible to delete job opening: {}", eligibility.getReason());
-            throw new BusinessException(eligibility.getReason());
+    private ResourceNotFoundException notFound(UUID campaignId, UUID companyId, UUID jobId) {
+        logger.warn("Job opening not found: id={}, campaignId={}, companyId={}",
+                jobId, campaignId, companyId);
+        return new ResourceNotFoundException("Job opening not found");
+    }
+
+    /**
+     * Overwrites the job opening in a single UPDATE ... RETURNING statement,
+     * conditioned on expectedVersion when one is given, so concurrent writers
+     * cannot overwrite each other and no row lock is held beyond the statement.
+     * A null campaignId and companyId update the job opening whatever its scope.
+     * Only when nothing matched is the row looked up again, to tell a missing job
+     * opening (404) from a stale version (412).
+     */
+    private JobOpeningResponse applyUpdate(UUID jobId, UUID campaignId, UUID companyId, Long expectedVersion,
+            JobOpeningUpdateRequest request) {
+        JobOpening values = new JobOpening();
+        mapper.updateEntity(request, values);
+        values.setTagList(JobOpeningTags.normalize(values.getTags()));
+        values.setUpdatedAt(OffsetDateTime.now());
+
+        Optional<JobOpening> updated =
+                jobOpeningRepository.updateFields(jobId, campaignId, companyId, expectedVersion, values);
+        if (updated.isEmpty() && expectedVersion != null && exists(jobId, campaignId, companyId)) {
+            logger.warn("Job opening id={} was modified since version {}", jobId, expectedVersion);
+            throw new PreconditionFailedException("Job opening has been modified");
+        }
+        JobOpening updatedJobOpening = updated.orElseThrow(() -> notFound(campaignId, companyId, jobId));
+        publishChange(updatedJobOpening, JobOpeningChangedEvent.Type.UPDATED);
+
+        logger.info("Updated job opening with id={}", updatedJobOpening.getId());
+
+        JobOpeningResponse response = mapper.toResponse(updatedJobOpening);
+        jobOpeningCache.put(response);
+        return response;
+    }
+
+    private boolean exists(UUID jobId, UUID campaignId, UUID companyId) {
+        return campaignId == null
+                ? jobOpeningRepository.existsById(jobId)
+                : jobOpeningRepository.existsByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
+    }
+
+    /**
+     * Deletes the job opening of the given scope in a single DELETE statement; the
+     * affected row count tells whether it existed.
+     */
+    private void applyDelete(UUID jobId, UUID campaignId, UUID companyId) {
+        if (jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId) == 0) {
+            throw notFound(campaignId, companyId, jobId);
         }
+        afterDelete(jobId, campaignId, companyId);
+    }
 
-        jobOpeningRepository.delete(jobOpening);
+    private void afterDelete(UUID jobId, UUID campaignId, UUID companyId) {
+        jobOpeningCache.evict(jobId);
+        eventPublisher.publishEvent(new JobOpeningChangedEvent(
+                jobId, campaignId, companyId, JobOpeningChangedEvent.Type.DELETED));
 
         logger.info("Deleted job opening with id={}", jobId);
     }
+
+    private void publishChange(JobOpening jobOpening, JobOpeningChangedEvent.Type type) {
+        eventPublisher.publishEvent(new JobOpeningChangedEvent(
+                jobOpening.getId(), jobOpening.getCampaignId(), jobOpening.getCompanyId(), type));
+    }
 }
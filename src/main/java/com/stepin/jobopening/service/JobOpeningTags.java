@@ -0,0 +1,60 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.repository.TagFilter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses the free-form, comma-separated tags of a job opening into their
+ * normalized form: trimmed, lower-cased and without duplicates, in first-seen
+ * order.
+ */
+final class JobOpeningTags {
+
+    private JobOpeningTags() {
+    }
+
+    static String[] normalize(String tags) {
+        return parse(tags).toArray(new String[0]);
+    }
+
+    /**
+     * Builds the tag filter of a listing request.
+     *
+     * @param tags  comma-separated tags, or null
+     * @param match {@code any} (the default) or {@code all}
+     * @return the filter, or null if no tag was given
+     * @throws BadRequestException if match is neither {@code any} nor {@code all}
+     */
+    static TagFilter filter(String tags, String match) {
+        boolean matchAll;
+        if (match == null || match.equalsIgnoreCase("any")) {
+            matchAll = false;
+        } else if (match.equalsIgnoreCase("all")) {
+            matchAll = true;
+        } else {
+            throw new BadRequestException("tagMatch must be 'any' or 'all'");
+        }
+
+        List<String> parsed = parse(tags);
+        return parsed.isEmpty() ? null : new TagFilter(parsed, matchAll);
+    }
+
+    private static List<String> parse(String tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (String tag : tags.split(",")) {
+            String normalized = tag.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                result.add(normalized);
+            }
+        }
+        return List.copyOf(result);
+    }
+}
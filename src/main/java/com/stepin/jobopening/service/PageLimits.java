@@ -0,0 +1,59 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the page size requested by a client against the configured default
+ * and maximum, and bounds the number of campaigns a single listing may span.
+ */
+@Component
+public class PageLimits {
+
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int maxCampaigns;
+
+    public PageLimits(
+            @Value("${job-openings.pagination.default-limit:50}") int defaultLimit,
+            @Value("${job-openings.pagination.max-limit:200}") int maxLimit,
+            @Value("${job-openings.pagination.max-campaigns:50}") int maxCampaigns) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.maxCampaigns = maxCampaigns;
+    }
+
+    /**
+     * Returns the page size to use for a request.
+     *
+     * @param requested the limit sent by the client, or null
+     * @return the default limit if none was requested, otherwise the requested
+     *         limit capped at the maximum
+     * @throws BadRequestException if the requested limit is less than 1
+     */
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultLimit;
+        }
+        if (requested < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        return Math.min(requested, maxLimit);
+    }
+
+    /**
+     * Checks the number of campaigns a multi-campaign listing asks for.
+     *
+     * @param campaignCount the number of distinct campaigns requested
+     * @throws BadRequestException if none or more than the maximum are requested
+     */
+    public void checkCampaignCount(int campaignCount) {
+        if (campaignCount < 1) {
+            throw new BadRequestException("At least one campaignId is required");
+        }
+        if (campaignCount > maxCampaigns) {
+            throw new BadRequestException("At most " + maxCampaigns + " campaigns can be listed at once");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Baseline of the schema that existed before migrations were introduced.
+-- Existing databases are baselined at this version and skip this script.
+CREATE TABLE IF NOT EXISTS job_opening (
+    job_opening_id   UUID PRIMARY KEY,
+    campaign_id      UUID                     NOT NULL,
+    company_id       UUID                     NOT NULL,
+    title            VARCHAR(255)             NOT NULL,
+    description      TEXT                     NOT NULL,
+    contract_type    VARCHAR(255),
+    duration         VARCHAR(255),
+    location         VARCHAR(255),
+    max_participants INTEGER,
+    requirements     TEXT,
+    benefits         TEXT,
+    tags             TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL
+);
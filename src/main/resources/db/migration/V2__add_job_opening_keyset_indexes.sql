@@ -0,0 +1,9 @@
+-- Indexes backing the keyset-paginated listings, ordered by (created_at, job_opening_id).
+CREATE INDEX IF NOT EXISTS idx_job_opening_campaign_created
+    ON job_opening (campaign_id, created_at, job_opening_id);
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_company_created
+    ON job_opening (company_id, created_at, job_opening_id);
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_campaign_company_created
+    ON job_opening (campaign_id, company_id, created_at, job_opening_id);
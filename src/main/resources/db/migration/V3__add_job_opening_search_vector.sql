@@ -0,0 +1,13 @@
+-- Full-text search document, kept up to date by PostgreSQL on every insert and update.
+-- Title matches weigh most, then tags, requirements and description.
+-- The 'simple' configuration does not stem, so it works the same for every posting language.
+ALTER TABLE job_opening
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(tags, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(requirements, '')), 'C') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'D')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_search_vector
+    ON job_opening USING GIN (search_vector);
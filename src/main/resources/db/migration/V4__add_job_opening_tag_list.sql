@@ -0,0 +1,17 @@
+-- Normalized tags (trimmed, lower-cased, de-duplicated) parsed from the free-form tags column.
+ALTER TABLE job_opening
+    ADD COLUMN IF NOT EXISTS tag_list TEXT[] NOT NULL DEFAULT '{}';
+
+UPDATE job_opening
+SET tag_list = ARRAY(
+    SELECT lower(btrim(tag))
+    FROM unnest(string_to_array(tags, ',')) WITH ORDINALITY AS t(tag, position)
+    WHERE btrim(tag) <> ''
+    GROUP BY lower(btrim(tag))
+    ORDER BY min(position)
+)
+WHERE tags IS NOT NULL;
+
+-- Serves the any-of (&&) and all-of (@>) tag filters.
+CREATE INDEX IF NOT EXISTS idx_job_opening_tag_list
+    ON job_opening USING GIN (tag_list);
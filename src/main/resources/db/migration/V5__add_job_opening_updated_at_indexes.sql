@@ -0,0 +1,7 @@
+-- Indexes backing the count(*) / max(updated_at) aggregates behind list ETags,
+-- so they can be answered by index-only scans.
+CREATE INDEX IF NOT EXISTS idx_job_opening_campaign_company_updated
+    ON job_opening (campaign_id, company_id, updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_company_updated
+    ON job_opening (company_id, updated_at);
@@ -0,0 +1,34 @@
+-- Serves the delta-sync listing of a campaign, ordered by (updated_at, job_opening_id).
+-- The company listing uses idx_job_opening_company_updated.
+CREATE INDEX IF NOT EXISTS idx_job_opening_campaign_updated
+    ON job_opening (campaign_id, updated_at, job_opening_id);
+
+-- Tombstones of deleted job openings, read by the delta-sync endpoint.
+CREATE TABLE IF NOT EXISTS job_opening_deletion (
+    job_opening_id UUID PRIMARY KEY,
+    campaign_id    UUID                     NOT NULL,
+    company_id     UUID                     NOT NULL,
+    deleted_at     TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_deletion_campaign_deleted
+    ON job_opening_deletion (campaign_id, deleted_at, job_opening_id);
+
+CREATE INDEX IF NOT EXISTS idx_job_opening_deletion_company_deleted
+    ON job_opening_deletion (company_id, deleted_at, job_opening_id);
+
+-- Recorded by a trigger so that every delete is logged, whichever statement issues it.
+CREATE OR REPLACE FUNCTION record_job_opening_deletion() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO job_opening_deletion (job_opening_id, campaign_id, company_id, deleted_at)
+    VALUES (OLD.job_opening_id, OLD.campaign_id, OLD.company_id, clock_timestamp())
+    ON CONFLICT (job_opening_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_job_opening_deletion ON job_opening;
+
+CREATE TRIGGER trg_job_opening_deletion
+    AFTER DELETE ON job_opening
+    FOR EACH ROW EXECUTE FUNCTION record_job_opening_deletion();
@@ -0,0 +1,4 @@
+-- Optimistic locking: every update bumps the version, and conditional updates
+-- only apply when the version is still the one the client read.
+ALTER TABLE job_opening
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Serves the multi-campaign listing, ordered by (created_at, job_opening_id) across
+-- campaign_id IN (...). The per-campaign indexes cannot return that order, so without
+-- this one every matching row is read and sorted before the page limit applies.
+-- campaign_id and company_id are included so non-matching rows are skipped in the index.
+CREATE INDEX IF NOT EXISTS idx_job_opening_created
+    ON job_opening (created_at, job_opening_id) INCLUDE (campaign_id, company_id);
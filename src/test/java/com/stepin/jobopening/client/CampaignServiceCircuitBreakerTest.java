@@ -0,0 +1,87 @@
+package com.stepin.jobopening.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CampaignServiceCircuitBreakerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CampaignServiceCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CampaignServiceCircuitBreaker(3, Duration.ofSeconds(30), 1, meterRegistry, nanos::get);
+    }
+
+    @Test
+    void onFailure_shouldOpenCircuitAfterThresholdAndRejectCalls() {
+        // Act
+        failTimes(3);
+
+        // Assert
+        assertEquals(CampaignServiceCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(1.0, meterRegistry.get("campaign.circuit.rejections").counter().count());
+        assertEquals(1.0, meterRegistry.get("campaign.circuit.state").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    void onSuccess_shouldResetConsecutiveFailures() {
+        // Act
+        failTimes(2);
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        failTimes(2);
+
+        // Assert
+        assertEquals(CampaignServiceCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void tryAcquirePermission_shouldAllowSingleProbeWhenHalfOpen() {
+        // Arrange
+        failTimes(3);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act & Assert
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(CampaignServiceCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onSuccess();
+        assertEquals(CampaignServiceCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("campaign.circuit.transitions")
+                .tags("from", "half_open", "to", "closed").counter().count());
+    }
+
+    @Test
+    void onFailure_shouldReopenCircuitWhenProbeFails() {
+        // Arrange
+        failTimes(3);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        // Act
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertEquals(CampaignServiceCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onFailure();
+        }
+    }
+}
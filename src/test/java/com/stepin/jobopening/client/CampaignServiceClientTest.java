@@ -0,0 +1,330 @@
+package com.stepin.jobopening.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.stepin.jobopening.dto.EligibilityResponse;
+import com.stepin.jobopening.exception.BusinessException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises CampaignServiceClient against a local stand-in for the Campaign Service.
+ */
+class CampaignServiceClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger eligibilityRequests = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private volatile CountDownLatch releaseResponses = new CountDownLatch(0);
+    private volatile int eligibilityStatus = 200;
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private volatile boolean batchSupported = true;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EligibilityCache eligibilityCache;
+    private CampaignServiceClient campaignServiceClient;
+
+    private UUID campaignId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/campaigns/", this::handleEligibility);
+        server.createContext("/eligibility/batch", this::handleBatchEligibility);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .build();
+        eligibilityCache = new EligibilityCache(true, 100, Duration.ofSeconds(60),
+                Duration.ofSeconds(10), true, Duration.ofMinutes(10), meterRegistry, nanos::get);
+        CampaignServiceCircuitBreaker circuitBreaker = new CampaignServiceCircuitBreaker(2, Duration.ofSeconds(30),
+                1, meterRegistry);
+        CampaignServiceBulkhead bulkhead = new CampaignServiceBulkhead(10, meterRegistry);
+        campaignServiceClient = new CampaignServiceClient(webClient, eligibilityCache, circuitBreaker, bulkhead,
+                meterRegistry, true, 100, 4);
+
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        companyId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponses.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void checkEligibility_shouldReturnDecisionFromCampaignService() {
+        // Act
+        EligibilityResponse result = campaignServiceClient.checkEligibility(campaignId, companyId);
+
+        // Assert
+        assertTrue(result.isCanMutateJobs());
+        assertEquals(1, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibility_shouldServeRepeatedLookupsFromCache() {
+        // Act
+        campaignServiceClient.checkEligibility(campaignId, companyId);
+        campaignServiceClient.checkEligibility(campaignId, companyId);
+
+        // Assert
+        assertEquals(1, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibility_shouldThrowBusinessExceptionWhenCampaignNotFound() {
+        // Arrange
+        eligibilityStatus = 404;
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+
+        assertEquals("Campaign not found or company not invited", exception.getMessage());
+    }
+
+    @Test
+    void checkEligibility_shouldCoalesceConcurrentLookupsForSamePair() throws Exception {
+        // Arrange
+        int callers = 5;
+        releaseResponses = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // Act
+            List<Future<EligibilityResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> campaignServiceClient.checkEligibility(campaignId, companyId)));
+            }
+            awaitCoalesced(callers - 1);
+            releaseResponses.countDown();
+
+            // Assert
+            for (Future<EligibilityResponse> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isCanMutateJobs());
+            }
+            assertEquals(1, eligibilityRequests.get());
+            assertEquals(callers - 1, meterRegistry.get("campaign.eligibility.coalesced").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void checkEligibility_shouldNotReplayFinishedFailureToNextCaller() {
+        // Arrange
+        eligibilityStatus = 500;
+
+        // Act
+        assertThrows(BusinessException.class, () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+        assertThrows(BusinessException.class, () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+
+        // Assert
+        assertEquals(2, eligibilityRequests.get());
+        assertEquals(0.0, meterRegistry.get("campaign.eligibility.coalesced").counter().count());
+    }
+
+    @Test
+    void checkEligibility_shouldOpenCircuitAfterConsecutiveServerErrors() {
+        // Arrange
+        eligibilityStatus = 503;
+        UUID otherCompanyId = UUID.randomUUID();
+
+        // Act
+        assertThrows(BusinessException.class, () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+        assertThrows(BusinessException.class, () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> campaignServiceClient.checkEligibility(campaignId, otherCompanyId));
+
+        // Assert
+        assertEquals(2, eligibilityRequests.get());
+        assertTrue(exception.getMessage().contains("Circuit breaker is open"));
+    }
+
+    @Test
+    void checkEligibility_shouldNotCountClientErrorsAsFailures() {
+        // Arrange
+        eligibilityStatus = 404;
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(BusinessException.class, () -> campaignServiceClient.checkEligibility(campaignId, companyId));
+        }
+
+        // Assert
+        assertEquals(3, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibility_shouldFallBackToLastKnownGoodDecisionWhenServiceFails() {
+        // Arrange
+        campaignServiceClient.checkEligibility(campaignId, companyId);
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        eligibilityStatus = 500;
+
+        // Act
+        EligibilityResponse result = campaignServiceClient.checkEligibility(campaignId, companyId);
+
+        // Assert
+        assertTrue(result.isCanMutateJobs());
+        assertEquals(2, eligibilityRequests.get());
+        assertEquals(1.0, meterRegistry.get("campaign.eligibility.stale-fallbacks").counter().count());
+    }
+
+    @Test
+    void checkEligibilityBatch_shouldResolveAllPairsInOneRoundTrip() {
+        // Arrange
+        EligibilityKey first = new EligibilityKey(campaignId, companyId);
+        EligibilityKey second = new EligibilityKey(campaignId, UUID.randomUUID());
+        EligibilityKey third = new EligibilityKey(UUID.randomUUID(), companyId);
+
+        // Act
+        Map<EligibilityKey, EligibilityResponse> result =
+                campaignServiceClient.checkEligibilityBatch(List.of(first, second, third));
+
+        // Assert
+        assertEquals(List.of(first, second, third), new ArrayList<>(result.keySet()));
+        assertTrue(result.values().stream().allMatch(EligibilityResponse::isCanMutateJobs));
+        assertEquals(1, batchRequests.get());
+        assertEquals(0, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibilityBatch_shouldOnlyRequestPairsMissingFromCache() {
+        // Arrange
+        campaignServiceClient.checkEligibility(campaignId, companyId);
+        EligibilityKey cached = new EligibilityKey(campaignId, companyId);
+        EligibilityKey missing = new EligibilityKey(campaignId, UUID.randomUUID());
+
+        // Act
+        Map<EligibilityKey, EligibilityResponse> result =
+                campaignServiceClient.checkEligibilityBatch(List.of(cached, missing));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(1, batchRequests.get());
+        assertEquals(1, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibilityBatch_shouldFallBackToIndividualLookupsWithoutBatchEndpoint() {
+        // Arrange
+        batchSupported = false;
+        EligibilityKey first = new EligibilityKey(campaignId, companyId);
+        EligibilityKey second = new EligibilityKey(campaignId, UUID.randomUUID());
+
+        // Act
+        Map<EligibilityKey, EligibilityResponse> result =
+                campaignServiceClient.checkEligibilityBatch(List.of(first, second));
+        campaignServiceClient.checkEligibilityBatch(List.of(new EligibilityKey(UUID.randomUUID(), companyId)));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.get(first).isCanMutateJobs());
+        assertEquals(1, batchRequests.get());
+        assertEquals(3, eligibilityRequests.get());
+    }
+
+    @Test
+    void checkEligibilityBatch_shouldReportFailedPairAsNotEligible() {
+        // Arrange
+        batchSupported = false;
+        eligibilityStatus = 404;
+        EligibilityKey key = new EligibilityKey(campaignId, companyId);
+
+        // Act
+        Map<EligibilityKey, EligibilityResponse> result = campaignServiceClient.checkEligibilityBatch(List.of(key));
+
+        // Assert
+        assertFalse(result.get(key).isCanMutateJobs());
+        assertEquals("Campaign not found or company not invited", result.get(key).getReason());
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("campaign.eligibility.coalesced").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void handleEligibility(HttpExchange exchange) throws IOException {
+        eligibilityRequests.incrementAndGet();
+        try {
+            releaseResponses.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (eligibilityStatus != 200) {
+            exchange.sendResponseHeaders(eligibilityStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = "{\"canMutateJobs\":true,\"reason\":\"\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void handleBatchEligibility(HttpExchange exchange) throws IOException {
+        batchRequests.incrementAndGet();
+        if (!batchSupported) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode pairs = objectMapper.readTree(exchange.getRequestBody());
+        ArrayNode items = objectMapper.createArrayNode();
+        for (JsonNode pair : pairs) {
+            items.addObject()
+                    .put("campaignId", pair.get("campaignId").asText())
+                    .put("companyId", pair.get("companyId").asText())
+                    .put("canMutateJobs", true)
+                    .put("reason", "");
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(items);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
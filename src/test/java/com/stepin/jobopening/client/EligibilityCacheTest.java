@@ -0,0 +1,116 @@
+package com.stepin.jobopening.client;
+
+import com.stepin.jobopening.dto.EligibilityResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EligibilityCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private EligibilityCache eligibilityCache;
+
+    private UUID campaignId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eligibilityCache = new EligibilityCache(true, 100, Duration.ofSeconds(60), Duration.ofSeconds(10),
+                true, Duration.ofMinutes(10), meterRegistry, nanos::get);
+
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        companyId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    }
+
+    @Test
+    void get_shouldReturnCachedDecisionWithinTtl() {
+        // Arrange
+        eligibilityCache.put(campaignId, companyId, new EligibilityResponse(true, ""));
+        nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+
+        // Act
+        EligibilityResponse result = eligibilityCache.get(campaignId, companyId);
+
+        // Assert
+        assertNotNull(result);
+        assertTrue(result.isCanMutateJobs());
+    }
+
+    @Test
+    void get_shouldExpireNegativeDecisionBeforePositiveTtl() {
+        // Arrange
+        eligibilityCache.put(campaignId, companyId, new EligibilityResponse(false, "Campaign is locked"));
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Act
+        EligibilityResponse result = eligibilityCache.get(campaignId, companyId);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void evictCampaign_shouldOnlyRemoveDecisionsOfThatCampaign() {
+        // Arrange
+        UUID otherCampaignId = UUID.randomUUID();
+        eligibilityCache.put(campaignId, companyId, new EligibilityResponse(true, ""));
+        eligibilityCache.put(otherCampaignId, companyId, new EligibilityResponse(true, ""));
+
+        // Act
+        eligibilityCache.evictCampaign(campaignId);
+
+        // Assert
+        assertNull(eligibilityCache.get(campaignId, companyId));
+        assertNotNull(eligibilityCache.get(otherCampaignId, companyId));
+    }
+
+    @Test
+    void get_shouldRecordHitAndMissMetrics() {
+        // Arrange
+        eligibilityCache.put(campaignId, companyId, new EligibilityResponse(true, ""));
+
+        // Act
+        eligibilityCache.get(campaignId, companyId);
+        eligibilityCache.get(UUID.randomUUID(), companyId);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tags("cache", EligibilityCache.CACHE_NAME, "result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tags("cache", EligibilityCache.CACHE_NAME, "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_shouldReturnNullWhenDisabled() {
+        // Arrange
+        EligibilityCache disabled = new EligibilityCache(false, 100, Duration.ofSeconds(60),
+                Duration.ofSeconds(10), false, Duration.ofMinutes(10), meterRegistry, nanos::get);
+        disabled.put(campaignId, companyId, new EligibilityResponse(true, ""));
+
+        // Act & Assert
+        assertNull(disabled.get(campaignId, companyId));
+    }
+
+    @Test
+    void getLastKnownGood_shouldOutliveTtlWithinStalenessWindow() {
+        // Arrange
+        eligibilityCache.put(campaignId, companyId, new EligibilityResponse(true, ""));
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        // Act & Assert
+        assertNull(eligibilityCache.get(campaignId, companyId));
+        assertNotNull(eligibilityCache.getLastKnownGood(campaignId, companyId));
+
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertNull(eligibilityCache.getLastKnownGood(campaignId, companyId));
+    }
+}
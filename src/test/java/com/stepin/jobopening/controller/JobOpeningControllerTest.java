@@ -2,10 +2,18 @@ package com.stepin.jobopening.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stepin.jobopening.client.CampaignServiceClient;
+import com.stepin.jobopening.dto.CursorPage;
 import com.stepin.jobopening.dto.EligibilityResponse;
+import com.stepin.jobopening.dto.JobOpeningBulkCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningBulkDeleteResponse;
 import com.stepin.jobopening.dto.JobOpeningCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
 import com.stepin.jobopening.dto.JobOpeningUpdateRequest;
+import com.stepin.jobopening.exception.BadRequestException;
 import com.stepin.jobopening.exception.GlobalExceptionHandler;
+import com.stepin.jobopening.exception.PreconditionFailedException;
+import com.stepin.jobopening.service.EncodedPage;
 import com.stepin.jobopening.service.JobOpeningService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +22,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -52,13 +66,15 @@ class JobOpeningControllerTest {
         companyId = UUID.fromString("22222222-2222-2222-2222-222222222222");
         jobId = UUID.fromString("33333333-3333-3333-3333-333333333333");
         baseUrl = "/campaigns/" + campaignId + "/companies/" + companyId + "/job-openings";
+
+        when(jobOpeningService.getListVersion(any(), any())).thenReturn(new JobOpeningListVersion(0, null));
     }
 
     @Test
     void listJobOpenings_shouldReturnEmptyList() throws Exception {
         // Arrange
-        when(jobOpeningService.listJobOpenings(campaignId, companyId))
-                .thenReturn(java.util.Collections.emptyList());
+        when(jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.Collections.emptyList(), null));
 
         // Act & Assert
         mockMvc.perform(get(baseUrl))
@@ -73,8 +89,8 @@ class JobOpeningControllerTest {
         var response1 = createJobOpeningResponse(jobId, "Software Engineer");
         var response2 = createJobOpeningResponse(UUID.randomUUID(), "DevOps Engineer");
 
-        when(jobOpeningService.listJobOpenings(campaignId, companyId))
-                .thenReturn(java.util.Arrays.asList(response1, response2));
+        when(jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.Arrays.asList(response1, response2), null));
 
         // Act & Assert
         mockMvc.perform(get(baseUrl))
@@ -85,7 +101,182 @@ class JobOpeningControllerTest {
                 .andExpect(jsonPath("$[0].title", is("Software Engineer")))
                 .andExpect(jsonPath("$[0].campaignId", is(campaignId.toString())))
                 .andExpect(jsonPath("$[0].companyId", is(companyId.toString())))
-                .andExpect(jsonPath("$[1].title", is("DevOps Engineer")));
+                .andExpect(jsonPath("$[1].title", is("DevOps Engineer")))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnNextCursorHeaderWhenMorePagesExist() throws Exception {
+        // Arrange
+        var response = createJobOpeningResponse(jobId, "Software Engineer");
+
+        when(jobOpeningService.listJobOpenings(campaignId, companyId, null, null, "abc", 1))
+                .thenReturn(new CursorPage<>(java.util.List.of(response), "def"));
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl).param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Next-Cursor", "def"));
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnETagWithoutLastModified() throws Exception {
+        // Arrange
+        when(jobOpeningService.getListVersion(campaignId, companyId))
+                .thenReturn(new JobOpeningListVersion(2, java.time.OffsetDateTime.parse("2024-05-01T10:00:00Z")));
+        when(jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.Collections.emptyList(), null));
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-1714557600000000\""))
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnNotModifiedWithoutLoadingRowsWhenETagMatches() throws Exception {
+        // Arrange
+        when(jobOpeningService.getListVersion(campaignId, companyId))
+                .thenReturn(new JobOpeningListVersion(2, java.time.OffsetDateTime.parse("2024-05-01T10:00:00Z")));
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl).header("If-None-Match", "\"2-1714557600000000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(jobOpeningService, never()).listJobOpenings(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnRowsAfterDeleteWhenOnlyIfModifiedSinceIsSent() throws Exception {
+        // Arrange: the newest row was deleted, so max(updatedAt) moved back
+        when(jobOpeningService.getListVersion(campaignId, companyId))
+                .thenReturn(new JobOpeningListVersion(2, java.time.OffsetDateTime.parse("2024-05-01T10:00:00Z")))
+                .thenReturn(new JobOpeningListVersion(1, java.time.OffsetDateTime.parse("2024-05-01T09:00:00Z")));
+        when(jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.Collections.emptyList(), null));
+        mockMvc.perform(get(baseUrl)).andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl).header("If-Modified-Since", "Wed, 01 May 2024 10:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1714554000000000\""));
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnSummariesWhenSummaryViewRequested() throws Exception {
+        // Arrange
+        var summary = new JobOpeningSummaryResponse(jobId, campaignId, companyId, "Software Engineer", "Paris",
+                "CDI", "java,spring", java.time.OffsetDateTime.now());
+
+        when(jobOpeningService.listJobOpeningSummaries(campaignId, companyId, null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.List.of(summary), null));
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Software Engineer")))
+                .andExpect(jsonPath("$[0].location", is("Paris")))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    void listJobOpenings_shouldReturnRequestedFieldsOnly() throws Exception {
+        // Arrange
+        when(jobOpeningService.listJobOpeningFields(campaignId, companyId, "id,title", null, null, null, null))
+                .thenReturn(new CursorPage<>(java.util.List.of(
+                        java.util.Map.<String, Object>of("id", jobId, "title", "Software Engineer")), null));
+
+        // Act & Assert
+        mockMvc.perform(get(baseUrl).param("fields", "id,title").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(jobId.toString())))
+                .andExpect(jsonPath("$[0].title", is("Software Engineer")))
+                .andExpect(jsonPath("$[0].location").doesNotExist());
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldReturnBadRequestForUnknownField() throws Exception {
+        // Arrange
+        when(jobOpeningService.listJobOpeningFields(campaignId, null, "salary", null, null, null, null))
+                .thenThrow(new BadRequestException("Unknown field: salary"));
+
+        // Act & Assert
+        mockMvc.perform(get("/campaigns/" + campaignId + "/job-openings").param("fields", "salary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unknown field: salary")));
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldReturnBadRequestForInvalidCursor() throws Exception {
+        // Arrange
+        when(jobOpeningService.listEncodedJobOpeningsByCampaign(campaignId, "bad", null))
+                .thenThrow(new BadRequestException("Invalid cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/campaigns/" + campaignId + "/job-openings").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid cursor")));
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldServeEncodedPageWithContentLength() throws Exception {
+        // Arrange
+        byte[] json = "[{\"title\":\"Software Engineer\"}]".getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        when(jobOpeningService.listEncodedJobOpeningsByCampaign(campaignId, null, null))
+                .thenReturn(new EncodedPage(json, new byte[] { 1, 2, 3 }, "def", listVersion()));
+
+        // Act & Assert
+        mockMvc.perform(get("/campaigns/" + campaignId + "/job-openings"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().longValue("Content-Length", json.length))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(header().string("ETag", "\"2-1714557600000000\""))
+                .andExpect(jsonPath("$[0].title", is("Software Engineer")));
+
+        verify(jobOpeningService, never()).getListVersion(any(), any());
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldServeGzipCopyWhenAccepted() throws Exception {
+        // Arrange
+        byte[] gzip = { 1, 2, 3 };
+        when(jobOpeningService.listEncodedJobOpeningsByCampaign(campaignId, null, null))
+                .thenReturn(new EncodedPage("[]".getBytes(java.nio.charset.StandardCharsets.UTF_8), gzip, null,
+                        listVersion()));
+
+        // Act & Assert
+        mockMvc.perform(get("/campaigns/" + campaignId + "/job-openings").header("Accept-Encoding", "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().longValue("Content-Length", gzip.length))
+                .andExpect(header().string("ETag", "\"2-1714557600000000-gz\""))
+                .andExpect(content().bytes(gzip));
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldNotMatchIdentityETagAgainstGzipCopy() throws Exception {
+        // Arrange
+        when(jobOpeningService.listEncodedJobOpeningsByCampaign(campaignId, null, null))
+                .thenReturn(new EncodedPage("[]".getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                        new byte[] { 1, 2, 3 }, null, listVersion()));
+        String url = "/campaigns/" + campaignId + "/job-openings";
+
+        // Act & Assert
+        mockMvc.perform(get(url).header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", "\"2-1714557600000000\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(url).header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", "\"2-1714557600000000-gz\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url).header("If-None-Match", "\"2-1714557600000000\""))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -117,6 +308,51 @@ class JobOpeningControllerTest {
                 .andExpect(jsonPath("$.updatedAt", notNullValue()));
     }
 
+    @Test
+    void createJobOpenings_shouldReturnCreatedItemsInRequestOrder() throws Exception {
+        // Arrange
+        JobOpeningCreateRequest first = new JobOpeningCreateRequest();
+        first.setTitle("Software Engineer");
+        first.setDescription("Develop software");
+        JobOpeningCreateRequest second = new JobOpeningCreateRequest();
+        second.setTitle("DevOps Engineer");
+        second.setDescription("Manage infrastructure");
+
+        when(jobOpeningService.createJobOpenings(eq(campaignId), eq(companyId), any()))
+                .thenReturn(List.of(createJobOpeningResponse(jobId, "Software Engineer"),
+                        createJobOpeningResponse(UUID.randomUUID(), "DevOps Engineer")));
+
+        // Act & Assert
+        mockMvc.perform(post(baseUrl + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new JobOpeningBulkCreateRequest(List.of(first, second)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Software Engineer")))
+                .andExpect(jsonPath("$[1].title", is("DevOps Engineer")));
+    }
+
+    @Test
+    void createJobOpenings_shouldReportEveryInvalidItem() throws Exception {
+        // Arrange
+        JobOpeningCreateRequest valid = new JobOpeningCreateRequest();
+        valid.setTitle("Software Engineer");
+        valid.setDescription("Develop software");
+        JobOpeningCreateRequest invalid = new JobOpeningCreateRequest();
+        invalid.setTitle("");
+        invalid.setDescription("Manage infrastructure");
+
+        // Act & Assert
+        mockMvc.perform(post(baseUrl + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new JobOpeningBulkCreateRequest(List.of(valid, invalid, invalid)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("items[1].title")))
+                .andExpect(jsonPath("$.message", containsString("items[2].title")));
+    }
+
     @Test
     void createJobOpening_shouldReturnBadRequestWhenTitleIsBlank() throws Exception {
         // Arrange
@@ -243,7 +479,7 @@ class JobOpeningControllerTest {
         var response = createJobOpeningResponse(jobId, "Senior Software Engineer");
 
         when(jobOpeningService.updateJobOpening(eq(campaignId), eq(companyId), eq(jobId),
-                any(JobOpeningUpdateRequest.class)))
+                any(JobOpeningUpdateRequest.class), isNull()))
                 .thenReturn(response);
 
         // Act & Assert
@@ -255,7 +491,69 @@ class JobOpeningControllerTest {
                 .andExpect(jsonPath("$.id", is(jobId.toString())))
                 .andExpect(jsonPath("$.title", is("Senior Software Engineer")))
                 .andExpect(jsonPath("$.campaignId", is(campaignId.toString())))
-                .andExpect(jsonPath("$.companyId", is(companyId.toString())));
+                .andExpect(jsonPath("$.companyId", is(companyId.toString())))
+                .andExpect(header().string("ETag", "\"" + jobId + "-1\""));
+    }
+
+    @Test
+    void updateJobOpening_shouldPassVersionFromIfMatch() throws Exception {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        var response = createJobOpeningResponse(jobId, "Senior Software Engineer");
+        response.setVersion(4L);
+        when(jobOpeningService.updateJobOpening(eq(campaignId), eq(companyId), eq(jobId),
+                any(JobOpeningUpdateRequest.class), eq(3L)))
+                .thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(put(baseUrl + "/" + jobId)
+                .header("If-Match", "\"" + jobId + "-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(4)))
+                .andExpect(header().string("ETag", "\"" + jobId + "-4\""));
+    }
+
+    @Test
+    void updateJobOpening_shouldReturnPreconditionFailedWhenVersionIsStale() throws Exception {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        when(jobOpeningService.updateJobOpening(eq(campaignId), eq(companyId), eq(jobId),
+                any(JobOpeningUpdateRequest.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Job opening has been modified"));
+
+        // Act & Assert
+        mockMvc.perform(put(baseUrl + "/" + jobId)
+                .header("If-Match", "\"" + jobId + "-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status", is(412)))
+                .andExpect(jsonPath("$.message", is("Job opening has been modified")));
+    }
+
+    @Test
+    void updateJobOpening_shouldReturnPreconditionFailedForETagOfAnotherJobOpening() throws Exception {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        // Act & Assert
+        mockMvc.perform(put(baseUrl + "/" + jobId)
+                .header("If-Match", "\"" + UUID.randomUUID() + "-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(jobOpeningService, never()).updateJobOpening(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -288,7 +586,7 @@ class JobOpeningControllerTest {
         request.setRequirements("Java, Spring Boot, Microservices");
 
         when(jobOpeningService.updateJobOpening(eq(campaignId), eq(companyId), eq(jobId),
-                any(JobOpeningUpdateRequest.class)))
+                any(JobOpeningUpdateRequest.class), isNull()))
                 .thenThrow(new com.stepin.jobopening.exception.ResourceNotFoundException("Job opening not found"));
 
         // Act & Assert
@@ -313,7 +611,7 @@ class JobOpeningControllerTest {
         request.setRequirements("Java, Spring Boot, Microservices");
 
         when(jobOpeningService.updateJobOpening(eq(campaignId), eq(companyId), eq(jobId),
-                any(JobOpeningUpdateRequest.class)))
+                any(JobOpeningUpdateRequest.class), isNull()))
                 .thenThrow(new com.stepin.jobopening.exception.BusinessException("Campaign is locked"));
 
         // Act & Assert
@@ -340,6 +638,33 @@ class JobOpeningControllerTest {
                 .andExpect(content().string(""));
     }
 
+    @Test
+    void deleteJobOpenings_shouldReturnDeletedCount() throws Exception {
+        // Arrange
+        when(jobOpeningService.deleteJobOpenings(campaignId, companyId, false))
+                .thenReturn(new JobOpeningBulkDeleteResponse(4, false));
+
+        // Act & Assert
+        mockMvc.perform(delete(baseUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount", is(4)))
+                .andExpect(jsonPath("$.dryRun", is(false)));
+    }
+
+    @Test
+    void deleteJobOpenings_shouldPassDryRunFlag() throws Exception {
+        // Arrange
+        when(jobOpeningService.deleteJobOpenings(campaignId, companyId, true))
+                .thenReturn(new JobOpeningBulkDeleteResponse(4, true));
+
+        // Act & Assert
+        mockMvc.perform(delete(baseUrl).param("dryRun", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun", is(true)));
+
+        verify(jobOpeningService, never()).deleteJobOpenings(campaignId, companyId, false);
+    }
+
     @Test
     void deleteJobOpening_shouldReturnNotFoundWhenJobDoesNotExist() throws Exception {
         // Arrange
@@ -391,6 +716,83 @@ class JobOpeningControllerTest {
                 .andExpect(jsonPath("$.timestamp", notNullValue()));
     }
 
+    @Test
+    void createJobOpeningAsync_shouldReturnCreatedWithValidRequest() throws Exception {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+        request.setRequirements("Java, Spring Boot");
+
+        var response = createJobOpeningResponse(jobId, "Software Engineer");
+
+        when(jobOpeningService.createJobOpeningAsync(eq(campaignId), eq(companyId),
+                any(JobOpeningCreateRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/async" + baseUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id", is(jobId.toString())))
+                .andExpect(jsonPath("$.title", is("Software Engineer")));
+    }
+
+    @Test
+    void createJobOpeningAsync_shouldReturnConflictWhenCampaignIsLocked() throws Exception {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+        request.setRequirements("Java, Spring Boot");
+
+        when(jobOpeningService.createJobOpeningAsync(eq(campaignId), eq(companyId),
+                any(JobOpeningCreateRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new com.stepin.jobopening.exception.BusinessException("Campaign is locked")));
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/async" + baseUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status", is(409)))
+                .andExpect(jsonPath("$.error", is("Conflict")))
+                .andExpect(jsonPath("$.message", is("Campaign is locked")));
+    }
+
+    @Test
+    void deleteJobOpeningAsync_shouldReturnNotFoundWhenJobDoesNotExist() throws Exception {
+        // Arrange
+        when(jobOpeningService.deleteJobOpeningAsync(campaignId, companyId, jobId))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new com.stepin.jobopening.exception.ResourceNotFoundException("Job opening not found")));
+
+        // Act
+        MvcResult result = mockMvc.perform(delete("/async" + baseUrl + "/" + jobId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.message", is("Job opening not found")));
+    }
+
     // Helper method to create JobOpeningResponse
     private com.stepin.jobopening.dto.JobOpeningResponse createJobOpeningResponse(UUID id, String title) {
         var response = new com.stepin.jobopening.dto.JobOpeningResponse();
@@ -402,6 +804,11 @@ class JobOpeningControllerTest {
         response.setRequirements("Java, Spring Boot");
         response.setCreatedAt(java.time.OffsetDateTime.now());
         response.setUpdatedAt(java.time.OffsetDateTime.now());
+        response.setVersion(1L);
         return response;
     }
+
+    private JobOpeningListVersion listVersion() {
+        return new JobOpeningListVersion(2, java.time.OffsetDateTime.parse("2024-05-01T10:00:00Z"));
+    }
 }
@@ -0,0 +1,148 @@
+package com.stepin.jobopening.repository;
+
+import com.stepin.jobopening.domain.JobOpening;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements Hibernate issues when saving job openings, against an
+ * in-memory database with the schema generated from the entities.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JobOpeningRepositoryTest {
+
+    @Autowired
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private UUID campaignId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        campaignId = UUID.randomUUID();
+        companyId = UUID.randomUUID();
+    }
+
+    @Test
+    void save_shouldInsertNewJobOpeningWithoutSelectingItFirst() {
+        // Arrange
+        JobOpening jobOpening = newJobOpening("Software Engineer");
+
+        // Act
+        jobOpeningRepository.save(jobOpening);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(jobOpening.isNew());
+        assertEquals(0L, jobOpening.getVersion());
+    }
+
+    @Test
+    void saveAll_shouldInsertEveryNewJobOpeningWithoutSelects() {
+        // Arrange
+        List<JobOpening> jobOpenings = List.of(newJobOpening("Software Engineer"),
+                newJobOpening("DevOps Engineer"), newJobOpening("Data Engineer"));
+
+        // Act
+        jobOpeningRepository.saveAll(jobOpenings);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void save_shouldUpdateLoadedJobOpening() {
+        // Arrange
+        UUID id = entityManager.persistAndFlush(newJobOpening("Software Engineer")).getId();
+        entityManager.clear();
+        JobOpening loaded = jobOpeningRepository.findById(id).orElseThrow();
+        statistics.clear();
+
+        // Act
+        loaded.setTitle("Senior Software Engineer");
+        jobOpeningRepository.save(loaded);
+        entityManager.flush();
+
+        // Assert
+        assertFalse(loaded.isNew());
+        assertEquals(1L, loaded.getVersion());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteByIdAndCampaignIdAndCompanyId_shouldDeleteInOneStatementWithoutLoading() {
+        // Arrange
+        UUID id = entityManager.persistAndFlush(newJobOpening("Software Engineer")).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        int deleted = jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(id, campaignId, companyId);
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(jobOpeningRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    void deleteByIdAndCampaignIdAndCompanyId_shouldNotDeleteJobOpeningOfAnotherCompany() {
+        // Arrange
+        UUID id = entityManager.persistAndFlush(newJobOpening("Software Engineer")).getId();
+        entityManager.clear();
+
+        // Act
+        int deleted = jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(id, campaignId, UUID.randomUUID());
+
+        // Assert
+        assertEquals(0, deleted);
+        assertTrue(jobOpeningRepository.findById(id).isPresent());
+    }
+
+    private JobOpening newJobOpening(String title) {
+        OffsetDateTime now = OffsetDateTime.now();
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(UUID.randomUUID());
+        jobOpening.setCampaignId(campaignId);
+        jobOpening.setCompanyId(companyId);
+        jobOpening.setTitle(title);
+        jobOpening.setDescription("Description of " + title);
+        jobOpening.setCreatedAt(now);
+        jobOpening.setUpdatedAt(now);
+        return jobOpening;
+    }
+}
@@ -0,0 +1,107 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobOpeningChangeFeedTest {
+
+    private static final Executor SEND_IMMEDIATELY = Runnable::run;
+    private static final Executor NEVER_SEND = task -> {
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UUID campaignId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        companyId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldOnlyDeliverToMatchingSubscribers() {
+        // Arrange
+        JobOpeningChangeFeed feed = feed(16, JobOpeningChangeFeed.OverflowPolicy.DISCONNECT, SEND_IMMEDIATELY);
+        feed.subscribe(campaignId, null);
+
+        // Act
+        feed.onJobOpeningChanged(event(campaignId));
+        feed.onJobOpeningChanged(event(UUID.randomUUID()));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("job-openings.change-feed.delivered").counter().count());
+        assertEquals(1.0, meterRegistry.get("job-openings.change-feed.subscribers").gauge().value());
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldDisconnectSubscriberWhoseBufferIsFull() {
+        // Arrange
+        JobOpeningChangeFeed feed = feed(2, JobOpeningChangeFeed.OverflowPolicy.DISCONNECT, NEVER_SEND);
+        feed.subscribe(campaignId, companyId);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            feed.onJobOpeningChanged(event(campaignId));
+        }
+
+        // Assert
+        assertEquals(0, feed.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("job-openings.change-feed.disconnected").counter().count());
+        assertEquals(0.0, meterRegistry.get("job-openings.change-feed.buffered").gauge().value());
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldDropEventsWhenBufferIsFullAndPolicyIsDrop() {
+        // Arrange
+        JobOpeningChangeFeed feed = feed(2, JobOpeningChangeFeed.OverflowPolicy.DROP, NEVER_SEND);
+        feed.subscribe(null, companyId);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            feed.onJobOpeningChanged(event(campaignId));
+        }
+
+        // Assert
+        assertEquals(1, feed.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("job-openings.change-feed.dropped").counter().count());
+        assertEquals(2.0, meterRegistry.get("job-openings.change-feed.buffered").gauge().value());
+    }
+
+    @Test
+    void onJobOpeningsDeleted_shouldDeliverOneEventPerDeletedJobOpening() {
+        // Arrange
+        JobOpeningChangeFeed feed = feed(16, JobOpeningChangeFeed.OverflowPolicy.DISCONNECT, SEND_IMMEDIATELY);
+        feed.subscribe(campaignId, null);
+
+        // Act
+        feed.onJobOpeningsDeleted(new JobOpeningsDeletedEvent(campaignId, companyId,
+                List.of(UUID.randomUUID(), UUID.randomUUID())));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("job-openings.change-feed.delivered").counter().count());
+    }
+
+    private JobOpeningChangeFeed feed(int bufferSize, JobOpeningChangeFeed.OverflowPolicy overflowPolicy,
+            Executor senders) {
+        return new JobOpeningChangeFeed(bufferSize, overflowPolicy, Duration.ofMinutes(1), Duration.ZERO,
+                meterRegistry, senders);
+    }
+
+    private JobOpeningChangedEvent event(UUID eventCampaignId) {
+        return new JobOpeningChangedEvent(UUID.randomUUID(), eventCampaignId, companyId,
+                JobOpeningChangedEvent.Type.UPDATED);
+    }
+}
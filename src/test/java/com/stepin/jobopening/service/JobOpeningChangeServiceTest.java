@@ -0,0 +1,164 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.domain.JobOpeningDeletion;
+import com.stepin.jobopening.dto.JobOpeningChangesResponse;
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.repository.JobOpeningDeletionRepository;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOpeningChangeServiceTest {
+
+    private static final UUID MAX_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private JobOpeningDeletionRepository deletionRepository;
+
+    private JobOpeningChangeService jobOpeningChangeService;
+
+    private UUID campaignId;
+    private OffsetDateTime since;
+    private OffsetDateTime databaseNow;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningChangeService = new JobOpeningChangeService(jobOpeningRepository, deletionRepository,
+                new PageLimits(50, 200, 50), Duration.ofSeconds(5), Duration.ofDays(30));
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        since = OffsetDateTime.parse("2024-05-01T10:00:00Z");
+        databaseNow = OffsetDateTime.parse("2024-05-01T12:00:00Z");
+        lenient().when(deletionRepository.currentTimestamp()).thenReturn(databaseNow);
+    }
+
+    @Test
+    void getCampaignChanges_shouldMergeUpdatesAndTombstonesInChangeOrder() {
+        // Arrange
+        JobOpening first = jobOpening(since.plusSeconds(1));
+        JobOpening third = jobOpening(since.plusSeconds(3));
+        JobOpeningDeletion second = deletion(since.plusSeconds(2));
+        when(jobOpeningRepository.findChangedByCampaignIdAfter(eq(campaignId), eq(since), eq(MAX_ID), any(),
+                eq(PageRequest.ofSize(3)))).thenReturn(List.of(first, third));
+        when(deletionRepository.findByCampaignIdAfter(eq(campaignId), eq(since), eq(MAX_ID), any(),
+                eq(PageRequest.ofSize(3)))).thenReturn(List.of(second));
+
+        // Act
+        JobOpeningChangesResponse result = jobOpeningChangeService.getCampaignChanges(campaignId, since, null, 2);
+
+        // Assert
+        assertTrue(result.isHasMore());
+        assertEquals(List.of(first.getId()), result.getUpdated().stream().map(r -> r.getId()).toList());
+        assertEquals(List.of(second.getId()), result.getDeleted().stream().map(t -> t.getId()).toList());
+        assertEquals(new JobOpeningChangeCursor(second.getDeletedAt(), second.getId()).encode(),
+                result.getNextCursor());
+    }
+
+    @Test
+    void getCampaignChanges_shouldResumeFromCursor() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        String cursor = new JobOpeningChangeCursor(since, lastId).encode();
+        when(jobOpeningRepository.findChangedByCampaignIdAfter(eq(campaignId), eq(since), eq(lastId), any(), any()))
+                .thenReturn(List.of());
+        when(deletionRepository.findByCampaignIdAfter(eq(campaignId), eq(since), eq(lastId), any(), any()))
+                .thenReturn(List.of());
+
+        // Act
+        JobOpeningChangesResponse result = jobOpeningChangeService.getCampaignChanges(campaignId, null, cursor, null);
+
+        // Assert
+        assertFalse(result.isHasMore());
+        assertTrue(result.getUpdated().isEmpty());
+        assertEquals(cursor, result.getNextCursor());
+    }
+
+    @Test
+    void getCampaignChanges_shouldHoldBackChangesYoungerThanSettleTime() {
+        // Arrange
+        when(jobOpeningRepository.findChangedByCampaignIdAfter(any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+        when(deletionRepository.findByCampaignIdAfter(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        jobOpeningChangeService.getCampaignChanges(campaignId, since, null, null);
+
+        // Assert: the bound comes from the database clock, like the tombstones
+        verify(jobOpeningRepository).findChangedByCampaignIdAfter(any(), any(), any(),
+                eq(databaseNow.minusSeconds(5)), any());
+        verify(deletionRepository).findByCampaignIdAfter(any(), any(), any(),
+                eq(databaseNow.minusSeconds(5)), any());
+    }
+
+    @Test
+    void pruneTombstones_shouldDeleteTombstonesOlderThanRetentionByDatabaseClock() {
+        // Arrange
+        when(deletionRepository.deleteByDeletedAtBefore(databaseNow.minusDays(30))).thenReturn(3);
+
+        // Act
+        int pruned = jobOpeningChangeService.pruneTombstones();
+
+        // Assert
+        assertEquals(3, pruned);
+    }
+
+    @Test
+    void getCampaignChanges_shouldRequireSinceOrCursor() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> jobOpeningChangeService.getCampaignChanges(campaignId, null, null, null));
+
+        assertEquals("Either since or cursor is required", exception.getMessage());
+        verifyNoInteractions(jobOpeningRepository, deletionRepository);
+    }
+
+    @Test
+    void order_shouldCompareIdsAsUnsignedLikePostgres() {
+        // Arrange
+        JobOpeningChangeCursor low = new JobOpeningChangeCursor(since, UUID.fromString(
+                "7fffffff-ffff-ffff-ffff-ffffffffffff"));
+        JobOpeningChangeCursor high = new JobOpeningChangeCursor(since, UUID.fromString(
+                "80000000-0000-0000-0000-000000000000"));
+
+        // Act & Assert
+        assertTrue(JobOpeningChangeCursor.ORDER.compare(low, high) < 0);
+    }
+
+    private JobOpening jobOpening(OffsetDateTime updatedAt) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(UUID.randomUUID());
+        jobOpening.setCampaignId(campaignId);
+        jobOpening.setCompanyId(UUID.randomUUID());
+        jobOpening.setTitle("Software Engineer");
+        jobOpening.setCreatedAt(updatedAt);
+        jobOpening.setUpdatedAt(updatedAt);
+        return jobOpening;
+    }
+
+    private JobOpeningDeletion deletion(OffsetDateTime deletedAt) {
+        JobOpeningDeletion deletion = new JobOpeningDeletion();
+        deletion.setId(UUID.randomUUID());
+        deletion.setCampaignId(campaignId);
+        deletion.setCompanyId(UUID.randomUUID());
+        deletion.setDeletedAt(deletedAt);
+        return deletion;
+    }
+}
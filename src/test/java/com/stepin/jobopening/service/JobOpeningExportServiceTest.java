@@ -0,0 +1,105 @@
+package com.stepin.jobopening.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOpeningExportServiceTest {
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private JobOpeningExportService jobOpeningExportService;
+
+    private UUID campaignId;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningExportService = new JobOpeningExportService(jobOpeningRepository, entityManager, objectMapper);
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    }
+
+    @Test
+    void exportCampaign_shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        JobOpening first = createJobOpening("Software Engineer");
+        JobOpening second = createJobOpening("DevOps Engineer");
+        when(jobOpeningRepository.streamByCampaignId(campaignId)).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = jobOpeningExportService.exportCampaign(campaignId, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{"));
+        assertTrue(lines[1].startsWith("{"));
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertEquals(first.getId().toString(), firstLine.get("id").asText());
+        assertEquals("Software Engineer", firstLine.get("title").asText());
+        assertEquals("DevOps Engineer", objectMapper.readTree(lines[1]).get("title").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportCampaign_shouldCloseRepositoryStreamButNotOutput() throws Exception {
+        // Arrange
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        AtomicBoolean outputClosed = new AtomicBoolean();
+        when(jobOpeningRepository.streamByCampaignId(campaignId))
+                .thenReturn(Stream.<JobOpening>empty().onClose(() -> streamClosed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        // Act
+        long count = jobOpeningExportService.exportCampaign(campaignId, out);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+        assertTrue(streamClosed.get());
+        assertFalse(outputClosed.get());
+    }
+
+    private JobOpening createJobOpening(String title) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(UUID.randomUUID());
+        jobOpening.setCampaignId(campaignId);
+        jobOpening.setCompanyId(UUID.randomUUID());
+        jobOpening.setTitle(title);
+        jobOpening.setDescription("Description");
+        jobOpening.setCreatedAt(OffsetDateTime.now());
+        jobOpening.setUpdatedAt(OffsetDateTime.now());
+        return jobOpening;
+    }
+}
@@ -0,0 +1,98 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.dto.JobOpeningFacetsResponse;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.repository.FacetCount;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOpeningFacetServiceTest {
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    private JobOpeningFacetService jobOpeningFacetService;
+
+    private UUID campaignId;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningFacetService = new JobOpeningFacetService(jobOpeningRepository, 100, Duration.ofMinutes(5),
+                new SimpleMeterRegistry());
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    }
+
+    @Test
+    void getCampaignFacets_shouldMapGroupedCounts() {
+        // Arrange
+        when(jobOpeningRepository.countByContractType(campaignId)).thenReturn(List.of(facet("CDI", 3)));
+        when(jobOpeningRepository.countByLocation(campaignId)).thenReturn(List.of(facet("Paris", 2)));
+        when(jobOpeningRepository.countByTag(campaignId)).thenReturn(List.of(facet("java", 4), facet("sql", 1)));
+
+        // Act
+        JobOpeningFacetsResponse result = jobOpeningFacetService.getCampaignFacets(campaignId);
+
+        // Assert
+        assertEquals(campaignId, result.getCampaignId());
+        assertEquals("CDI", result.getContractTypes().get(0).getValue());
+        assertEquals(3, result.getContractTypes().get(0).getCount());
+        assertEquals(2, result.getLocations().get(0).getCount());
+        assertEquals(List.of("java", "sql"), result.getTags().stream().map(f -> f.getValue()).toList());
+    }
+
+    @Test
+    void getCampaignFacets_shouldServeRepeatedCallsFromCache() {
+        // Act
+        jobOpeningFacetService.getCampaignFacets(campaignId);
+        jobOpeningFacetService.getCampaignFacets(campaignId);
+
+        // Assert
+        verify(jobOpeningRepository, times(1)).countByContractType(campaignId);
+        verify(jobOpeningRepository, times(1)).countByTag(campaignId);
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldRecomputeFacetsOfThatCampaignOnly() {
+        // Arrange
+        UUID otherCampaignId = UUID.randomUUID();
+        jobOpeningFacetService.getCampaignFacets(campaignId);
+        jobOpeningFacetService.getCampaignFacets(otherCampaignId);
+
+        // Act
+        jobOpeningFacetService.onJobOpeningChanged(new JobOpeningChangedEvent(UUID.randomUUID(), campaignId,
+                UUID.randomUUID(), JobOpeningChangedEvent.Type.CREATED));
+        jobOpeningFacetService.getCampaignFacets(campaignId);
+        jobOpeningFacetService.getCampaignFacets(otherCampaignId);
+
+        // Assert
+        verify(jobOpeningRepository, times(2)).countByContractType(campaignId);
+        verify(jobOpeningRepository, times(1)).countByContractType(otherCampaignId);
+    }
+
+    private static FacetCount facet(String value, long count) {
+        return new FacetCount() {
+            @Override
+            public String getValue() {
+                return value;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.stepin.jobopening.service;
+
+import com.stepin.jobopening.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobOpeningFieldSetsTest {
+
+    private final JobOpeningFieldSets fieldSets = new JobOpeningFieldSets(100);
+
+    @Test
+    void parse_shouldKeepRequestedOrderAndDropDuplicates() {
+        // Act
+        List<String> result = fieldSets.parse(" title, location ,title,,id");
+
+        // Assert
+        assertEquals(List.of("title", "location", "id"), result);
+    }
+
+    @Test
+    void parse_shouldReuseParsedFieldsForSameParameter() {
+        // Act & Assert
+        assertSame(fieldSets.parse("title,tags"), fieldSets.parse("title,tags"));
+    }
+
+    @Test
+    void parse_shouldAcceptVersion() {
+        // Act
+        List<String> result = fieldSets.parse("id,version");
+
+        // Assert
+        assertEquals(List.of("id", "version"), result);
+    }
+
+    @Test
+    void parse_shouldRejectUnknownField() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> fieldSets.parse("title,salary"));
+
+        assertEquals("Unknown field: salary", exception.getMessage());
+    }
+
+    @Test
+    void parse_shouldRejectEmptyFieldList() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> fieldSets.parse(" , "));
+    }
+}
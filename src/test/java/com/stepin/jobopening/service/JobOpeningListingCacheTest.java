@@ -0,0 +1,146 @@
+package com.stepin.jobopening.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stepin.jobopening.dto.CursorPage;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobOpeningListingCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger versionLoads = new AtomicInteger();
+    private final JobOpeningListVersion version =
+            new JobOpeningListVersion(2, OffsetDateTime.parse("2024-05-01T10:00:00Z"));
+
+    private JobOpeningListingCache listingCache;
+
+    private UUID campaignId;
+
+    @BeforeEach
+    void setUp() {
+        listingCache = new JobOpeningListingCache(true, DataSize.ofMegabytes(1), Duration.ofMinutes(10), true,
+                new ObjectMapper(), new SimpleMeterRegistry());
+        campaignId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    }
+
+    @Test
+    void get_shouldEncodeItemsAndKeepNextCursor() {
+        // Act
+        EncodedPage result = listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        assertEquals("[\"a\",\"b\"]", new String(result.json(), StandardCharsets.UTF_8));
+        assertEquals("next", result.nextCursor());
+    }
+
+    @Test
+    void get_shouldServeRepeatedCallsFromCache() {
+        // Act
+        EncodedPage first = listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        EncodedPage second = listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldKeepVersionWithPageSoHitsSkipVersionQuery() {
+        // Act
+        listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        EncodedPage result = listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        assertSame(version, result.version());
+        assertEquals(1, versionLoads.get());
+    }
+
+    @Test
+    void get_shouldKeepGzipCopyOfSameBytes() throws IOException {
+        // Act
+        EncodedPage result = listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.gzip()))) {
+            assertArrayEquals(result.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldReloadPagesOfThatCampaignOnly() {
+        // Arrange
+        UUID otherCampaignId = UUID.randomUUID();
+        listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        listingCache.get(otherCampaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Act
+        listingCache.onJobOpeningChanged(new JobOpeningChangedEvent(UUID.randomUUID(), campaignId,
+                UUID.randomUUID(), JobOpeningChangedEvent.Type.UPDATED));
+        listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        listingCache.get(otherCampaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onJobOpeningsDeleted_shouldReloadPagesOfThatCampaign() {
+        // Arrange
+        listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Act
+        listingCache.onJobOpeningsDeleted(new JobOpeningsDeletedEvent(campaignId, UUID.randomUUID(),
+                List.of(UUID.randomUUID(), UUID.randomUUID())));
+        listingCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onJobOpeningChanged_shouldForgetGenerationsOfCampaignsNotReadWithinTtl() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        JobOpeningListingCache expiringCache = new JobOpeningListingCache(true, DataSize.ofMegabytes(1),
+                Duration.ofMinutes(10), true, new ObjectMapper(), new SimpleMeterRegistry(), nanos::get);
+        expiringCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        expiringCache.onJobOpeningChanged(new JobOpeningChangedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), JobOpeningChangedEvent.Type.UPDATED));
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        // Assert
+        assertEquals(0, expiringCache.trackedCampaigns());
+        expiringCache.get(campaignId, null, 50, this::loadVersion, this::loadPage);
+        assertEquals(2, loads.get());
+    }
+
+    private JobOpeningListVersion loadVersion() {
+        versionLoads.incrementAndGet();
+        return version;
+    }
+
+    private CursorPage<?> loadPage() {
+        loads.incrementAndGet();
+        return new CursorPage<>(List.of("a", "b"), "next");
+    }
+}
@@ -0,0 +1,119 @@
+package com.stepin.jobopening.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.JobOpeningLookupResponse;
+import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.exception.BadRequestException;
+import com.stepin.jobopening.mapper.JobOpeningMapper;
+import com.stepin.jobopening.repository.JobOpeningRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOpeningLookupServiceTest {
+
+    @Mock
+    private JobOpeningRepository jobOpeningRepository;
+
+    private JobOpeningCache jobOpeningCache;
+    private JobOpeningLookupService jobOpeningLookupService;
+
+    @BeforeEach
+    void setUp() {
+        jobOpeningCache = new JobOpeningCache(true, 100, Duration.ofMinutes(10), new SimpleMeterRegistry(),
+                Ticker.systemTicker());
+        jobOpeningLookupService = new JobOpeningLookupService(jobOpeningRepository, jobOpeningCache, 3);
+    }
+
+    @Test
+    void lookupJobOpenings_shouldReturnItemsInRequestOrderAndReportMissingIds() {
+        // Arrange
+        JobOpening first = jobOpening("Software Engineer");
+        JobOpening second = jobOpening("DevOps Engineer");
+        UUID missingId = UUID.randomUUID();
+        when(jobOpeningRepository.findAllById(List.of(second.getId(), missingId, first.getId())))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        JobOpeningLookupResponse result = jobOpeningLookupService.lookupJobOpenings(
+                List.of(second.getId(), missingId, first.getId(), second.getId()));
+
+        // Assert
+        assertEquals(List.of("DevOps Engineer", "Software Engineer"),
+                result.getItems().stream().map(JobOpeningResponse::getTitle).toList());
+        assertEquals(List.of(missingId), result.getMissingIds());
+    }
+
+    @Test
+    void lookupJobOpenings_shouldOnlyQueryIdsMissingFromCache() {
+        // Arrange
+        JobOpening cached = jobOpening("Software Engineer");
+        JobOpening loaded = jobOpening("DevOps Engineer");
+        jobOpeningCache.put(JobOpeningMapper.INSTANCE.toResponse(cached));
+        when(jobOpeningRepository.findAllById(List.of(loaded.getId()))).thenReturn(List.of(loaded));
+
+        // Act
+        JobOpeningLookupResponse result = jobOpeningLookupService.lookupJobOpenings(
+                List.of(cached.getId(), loaded.getId()));
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        verify(jobOpeningRepository).findAllById(List.of(loaded.getId()));
+    }
+
+    @Test
+    void lookupJobOpenings_shouldNotResurrectRowEvictedWhileLoading() {
+        // Arrange
+        JobOpening deleted = jobOpening("Software Engineer");
+        when(jobOpeningRepository.findAllById(List.of(deleted.getId()))).thenAnswer(invocation -> {
+            // A concurrent delete commits and evicts after the row was read
+            jobOpeningCache.evict(deleted.getId());
+            return List.of(deleted);
+        });
+
+        // Act
+        jobOpeningLookupService.lookupJobOpenings(List.of(deleted.getId()));
+
+        // Assert
+        assertTrue(jobOpeningCache.getAllPresent(List.of(deleted.getId())).isEmpty());
+        assertEquals(0, jobOpeningCache.size());
+    }
+
+    @Test
+    void lookupJobOpenings_shouldRejectTooManyIds() {
+        // Arrange
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> jobOpeningLookupService.lookupJobOpenings(ids));
+
+        assertEquals("At most 3 ids can be looked up at once", exception.getMessage());
+        verify(jobOpeningRepository, never()).findAllById(any());
+    }
+
+    private JobOpening jobOpening(String title) {
+        JobOpening jobOpening = new JobOpening();
+        jobOpening.setId(UUID.randomUUID());
+        jobOpening.setCampaignId(UUID.randomUUID());
+        jobOpening.setCompanyId(UUID.randomUUID());
+        jobOpening.setTitle(title);
+        jobOpening.setCreatedAt(OffsetDateTime.now());
+        jobOpening.setUpdatedAt(OffsetDateTime.now());
+        return jobOpening;
+    }
+}
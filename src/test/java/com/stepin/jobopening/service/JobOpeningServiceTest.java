@@ -1,29 +1,56 @@
 package com.stepin.jobopening.service;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.stepin.jobopening.client.CampaignServiceClient;
 import com.stepin.jobopening.domain.JobOpening;
+import com.stepin.jobopening.dto.CampaignJobOpenings;
+import com.stepin.jobopening.dto.CursorPage;
 import com.stepin.jobopening.dto.EligibilityResponse;
+import com.stepin.jobopening.dto.JobOpeningBulkDeleteResponse;
 import com.stepin.jobopening.dto.JobOpeningCreateRequest;
+import com.stepin.jobopening.dto.JobOpeningListVersion;
 import com.stepin.jobopening.dto.JobOpeningResponse;
+import com.stepin.jobopening.dto.JobOpeningSummaryResponse;
 import com.stepin.jobopening.dto.JobOpeningUpdateRequest;
+import com.stepin.jobopening.event.JobOpeningChangedEvent;
+import com.stepin.jobopening.event.JobOpeningsDeletedEvent;
+import com.stepin.jobopening.exception.BadRequestException;
 import com.stepin.jobopening.exception.BusinessException;
+import com.stepin.jobopening.exception.PreconditionFailedException;
 import com.stepin.jobopening.exception.ResourceNotFoundException;
 import com.stepin.jobopening.repository.JobOpeningRepository;
+import com.stepin.jobopening.repository.JobOpeningScope;
+import com.stepin.jobopening.repository.JobOpeningSearchHit;
+import com.stepin.jobopening.repository.TagFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +62,22 @@ class JobOpeningServiceTest {
     @Mock
     private CampaignServiceClient campaignServiceClient;
 
+    @Spy
+    private PageLimits pageLimits = new PageLimits(50, 200, 50);
+
+    @Spy
+    private JobOpeningFieldSets fieldSets = new JobOpeningFieldSets(100);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private JobOpeningCache jobOpeningCache = new JobOpeningCache(true, 100, Duration.ofMinutes(10),
+            new SimpleMeterRegistry(), Ticker.systemTicker());
+
     @InjectMocks
     private JobOpeningService jobOpeningService;
 
@@ -74,33 +117,245 @@ class JobOpeningServiceTest {
         jobOpening2.setUpdatedAt(OffsetDateTime.now());
 
         List<JobOpening> jobOpenings = Arrays.asList(jobOpening, jobOpening2);
-        when(jobOpeningRepository.findByCampaignIdAndCompanyId(campaignId, companyId))
+        when(jobOpeningRepository.findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(
+                campaignId, companyId, PageRequest.ofSize(51)))
                 .thenReturn(jobOpenings);
 
         // Act
-        List<JobOpeningResponse> result = jobOpeningService.listJobOpenings(campaignId, companyId);
+        CursorPage<JobOpeningResponse> result =
+                jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("Software Engineer", result.get(0).getTitle());
-        assertEquals("DevOps Engineer", result.get(1).getTitle());
-        verify(jobOpeningRepository).findByCampaignIdAndCompanyId(campaignId, companyId);
+        assertEquals(2, result.getItems().size());
+        assertEquals("Software Engineer", result.getItems().get(0).getTitle());
+        assertEquals("DevOps Engineer", result.getItems().get(1).getTitle());
+        assertNull(result.getNextCursor());
+        verify(jobOpeningRepository).findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(
+                campaignId, companyId, PageRequest.ofSize(51));
     }
 
     @Test
     void listJobOpenings_shouldReturnEmptyListWhenNoJobOpenings() {
         // Arrange
-        when(jobOpeningRepository.findByCampaignIdAndCompanyId(campaignId, companyId))
+        when(jobOpeningRepository.findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(
+                campaignId, companyId, PageRequest.ofSize(51)))
                 .thenReturn(Arrays.asList());
 
         // Act
-        List<JobOpeningResponse> result = jobOpeningService.listJobOpenings(campaignId, companyId);
+        CursorPage<JobOpeningResponse> result =
+                jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(0, result.size());
-        verify(jobOpeningRepository).findByCampaignIdAndCompanyId(campaignId, companyId);
+        assertEquals(0, result.getItems().size());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void listJobOpenings_shouldContinueAfterCursorOfPreviousPage() {
+        // Arrange
+        JobOpening second = createJobOpening(jobOpening.getCreatedAt().plusSeconds(1));
+        JobOpening third = createJobOpening(jobOpening.getCreatedAt().plusSeconds(2));
+        when(jobOpeningRepository.findByCampaignIdAndCompanyIdOrderByCreatedAtAscIdAsc(
+                campaignId, companyId, PageRequest.ofSize(3)))
+                .thenReturn(Arrays.asList(jobOpening, second, third));
+        when(jobOpeningRepository.findByCampaignIdAndCompanyIdAfter(eq(campaignId), eq(companyId),
+                any(OffsetDateTime.class), eq(second.getId()), eq(PageRequest.ofSize(3))))
+                .thenReturn(Arrays.asList(third));
+
+        // Act
+        CursorPage<JobOpeningResponse> firstPage =
+                jobOpeningService.listJobOpenings(campaignId, companyId, null, null, null, 2);
+        CursorPage<JobOpeningResponse> secondPage =
+                jobOpeningService.listJobOpenings(campaignId, companyId, null, null, firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(2, firstPage.getItems().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(1, secondPage.getItems().size());
+        assertEquals(third.getId(), secondPage.getItems().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+        verify(jobOpeningRepository).findByCampaignIdAndCompanyIdAfter(eq(campaignId), eq(companyId),
+                argThat(createdAt -> createdAt.isEqual(second.getCreatedAt())), eq(second.getId()),
+                eq(PageRequest.ofSize(3)));
+    }
+
+    @Test
+    void listJobOpenings_shouldRejectMalformedCursor() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            jobOpeningService.listJobOpenings(campaignId, companyId, null, null, "not-a-cursor", null);
+        });
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldCapLimitAtMaximum() {
+        // Arrange
+        when(jobOpeningRepository.findByCampaignIdOrderByCreatedAtAscIdAsc(campaignId, PageRequest.ofSize(201)))
+                .thenReturn(Arrays.asList(jobOpening));
+
+        // Act
+        CursorPage<JobOpeningResponse> result =
+                jobOpeningService.listJobOpeningsByCampaign(campaignId, null, null, null, 1000);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        verify(jobOpeningRepository).findByCampaignIdOrderByCreatedAtAscIdAsc(campaignId, PageRequest.ofSize(201));
+    }
+
+    @Test
+    void listJobOpeningSummariesByCampaign_shouldPageOverSummaryProjection() {
+        // Arrange
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        JobOpeningSummaryResponse first = new JobOpeningSummaryResponse(jobId, campaignId, companyId,
+                "Software Engineer", "Paris", "CDI", "java", createdAt);
+        JobOpeningSummaryResponse second = new JobOpeningSummaryResponse(UUID.randomUUID(), campaignId, companyId,
+                "DevOps Engineer", "Lyon", "CDD", "k8s", createdAt.plusSeconds(1));
+        when(jobOpeningRepository.findSummariesByCampaignId(campaignId, PageRequest.ofSize(2)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // Act
+        CursorPage<JobOpeningSummaryResponse> result =
+                jobOpeningService.listJobOpeningSummariesByCampaign(campaignId, null, null, null, 1);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertSame(first, result.getItems().get(0));
+        assertNotNull(result.getNextCursor());
+        verify(jobOpeningRepository, never()).findByCampaignIdOrderByCreatedAtAscIdAsc(any(), any());
+    }
+
+    @Test
+    void listJobOpeningFields_shouldReturnOnlyRequestedFields() {
+        // Arrange
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("title", "Software Engineer");
+        row.put("createdAt", jobOpening.getCreatedAt());
+        row.put("id", jobId);
+        when(jobOpeningRepository.findFields(List.of("title"), campaignId, null, null, null, null, 51))
+                .thenReturn(List.of(row));
+
+        // Act
+        CursorPage<Map<String, Object>> result =
+                jobOpeningService.listJobOpeningFields(campaignId, null, "title", null, null, null, null);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(Map.of("title", "Software Engineer"), result.getItems().get(0));
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getJobOpeningFields_shouldRejectUnknownFieldWithoutQuerying() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            jobOpeningService.getJobOpeningFields(jobId, "title,salary");
+        });
+
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void getJobOpeningFields_shouldThrowResourceNotFoundExceptionWhenJobNotFound() {
+        // Arrange
+        when(jobOpeningRepository.findFieldsById(jobId, List.of("title"))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> {
+            jobOpeningService.getJobOpeningFields(jobId, "title");
+        });
+    }
+
+    @Test
+    void searchJobOpenings_shouldReturnResultsInRankOrder() {
+        // Arrange
+        JobOpening other = createJobOpening(jobOpening.getCreatedAt());
+        when(jobOpeningRepository.search("java", campaignId, null, null, 51))
+                .thenReturn(List.of(new JobOpeningSearchHit(other.getId(), 0.9f),
+                        new JobOpeningSearchHit(jobId, 0.4f)));
+        when(jobOpeningRepository.findAllById(List.of(other.getId(), jobId)))
+                .thenReturn(List.of(jobOpening, other));
+
+        // Act
+        CursorPage<JobOpeningResponse> result = jobOpeningService.searchJobOpenings(" java ", campaignId, null, null);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals(other.getId(), result.getItems().get(0).getId());
+        assertEquals(jobId, result.getItems().get(1).getId());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void searchJobOpenings_shouldContinueAfterRankAndIdOfCursor() {
+        // Arrange
+        UUID secondId = UUID.randomUUID();
+        when(jobOpeningRepository.search("java", null, null, null, 2))
+                .thenReturn(List.of(new JobOpeningSearchHit(jobId, 0.9f), new JobOpeningSearchHit(secondId, 0.4f)));
+        when(jobOpeningRepository.findAllById(List.of(jobId))).thenReturn(List.of(jobOpening));
+        when(jobOpeningRepository.search("java", null, 0.9f, jobId, 2)).thenReturn(List.of());
+        when(jobOpeningRepository.findAllById(List.of())).thenReturn(List.of());
+
+        // Act
+        CursorPage<JobOpeningResponse> firstPage = jobOpeningService.searchJobOpenings("java", null, null, 1);
+        CursorPage<JobOpeningResponse> secondPage = jobOpeningService.searchJobOpenings("java", null,
+                firstPage.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(1, firstPage.getItems().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertTrue(secondPage.getItems().isEmpty());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void searchJobOpenings_shouldRejectBlankQuery() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            jobOpeningService.searchJobOpenings("  ", null, null, null);
+        });
+
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldFilterByNormalizedTagsInDatabase() {
+        // Arrange
+        TagFilter tagFilter = new TagFilter(List.of("java", "spring boot"), true);
+        when(jobOpeningRepository.findPage(campaignId, null, tagFilter, null, null, 51))
+                .thenReturn(List.of(jobOpening));
+
+        // Act
+        CursorPage<JobOpeningResponse> result =
+                jobOpeningService.listJobOpeningsByCampaign(campaignId, " Java, Spring Boot ,java", "ALL", null, null);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        verify(jobOpeningRepository, never()).findByCampaignIdOrderByCreatedAtAscIdAsc(any(), any());
+    }
+
+    @Test
+    void listJobOpeningsByCampaign_shouldRejectUnknownTagMatch() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            jobOpeningService.listJobOpeningsByCampaign(campaignId, "java", "most", null, null);
+        });
+
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void listJobOpeningsByCompany_shouldRejectNonPositiveLimit() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> {
+            jobOpeningService.listJobOpeningsByCompany(companyId, null, null, null, 0);
+        });
+
+        verifyNoInteractions(jobOpeningRepository);
     }
 
     @Test
@@ -133,6 +388,75 @@ class JobOpeningServiceTest {
         verify(jobOpeningRepository).save(any(JobOpening.class));
     }
 
+    @Test
+    void createJobOpenings_shouldCheckEligibilityOnceAndInsertAllInOneTransaction() {
+        // Arrange
+        JobOpeningCreateRequest first = new JobOpeningCreateRequest();
+        first.setTitle("Software Engineer");
+        first.setDescription("Develop software");
+        JobOpeningCreateRequest second = new JobOpeningCreateRequest();
+        second.setTitle("DevOps Engineer");
+        second.setDescription("Manage infrastructure");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<JobOpeningResponse> result =
+                jobOpeningService.createJobOpenings(campaignId, companyId, List.of(first, second));
+
+        // Assert
+        assertEquals(List.of("Software Engineer", "DevOps Engineer"),
+                result.stream().map(JobOpeningResponse::getTitle).toList());
+        assertNotEquals(result.get(0).getId(), result.get(1).getId());
+        verify(campaignServiceClient, times(1)).checkEligibility(campaignId, companyId);
+        verify(jobOpeningRepository).saveAll(argThat((List<JobOpening> jobOpenings) -> jobOpenings.size() == 2));
+        verify(jobOpeningRepository, never()).save(any(JobOpening.class));
+        verify(transactionManager).commit(any());
+        verify(eventPublisher, times(2)).publishEvent(any(JobOpeningChangedEvent.class));
+    }
+
+    @Test
+    void createJobOpenings_shouldNotInsertAnythingWhenNotEligible() {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(false, "Campaign is locked"));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> jobOpeningService.createJobOpenings(campaignId, companyId, List.of(request)));
+
+        assertEquals("Campaign is locked", exception.getMessage());
+        verify(jobOpeningRepository, never()).saveAll(anyList());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void createJobOpening_shouldStoreNormalizedTagList() {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+        request.setTags(" Java, Spring ,,java ");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.save(any(JobOpening.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        JobOpeningResponse result = jobOpeningService.createJobOpening(campaignId, companyId, request);
+
+        // Assert
+        assertEquals(" Java, Spring ,,java ", result.getTags());
+        verify(jobOpeningRepository).save(argThat(saved ->
+                Arrays.equals(new String[] { "java", "spring" }, saved.getTagList())));
+    }
+
     @Test
     void createJobOpening_shouldThrowBusinessExceptionWhenNotEligible() {
         // Arrange
@@ -206,22 +530,22 @@ class JobOpeningServiceTest {
 
         EligibilityResponse eligibility = new EligibilityResponse(true, "");
         when(campaignServiceClient.checkEligibility(campaignId, companyId)).thenReturn(eligibility);
-        when(jobOpeningRepository.findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId))
-                .thenReturn(Optional.of(jobOpening));
-        when(jobOpeningRepository.save(any(JobOpening.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpdateFields(campaignId, companyId);
 
         // Act
-        JobOpeningResponse result = jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request);
+        JobOpeningResponse result = jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, null);
 
         // Assert
         assertNotNull(result);
+        assertEquals(jobId, result.getId());
         assertEquals("Senior Software Engineer", result.getTitle());
         assertEquals("Lead software development", result.getDescription());
         assertEquals("Java, Spring Boot, Microservices", result.getRequirements());
 
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository).findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
-        verify(jobOpeningRepository).save(any(JobOpening.class));
+        verify(jobOpeningRepository).updateFields(eq(jobId), eq(campaignId), eq(companyId), isNull(),
+                any(JobOpening.class));
+        verify(jobOpeningRepository, never()).save(any(JobOpening.class));
     }
 
     @Test
@@ -237,13 +561,12 @@ class JobOpeningServiceTest {
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class, () -> {
-            jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request);
+            jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, null);
         });
 
         assertEquals("Campaign is locked", exception.getMessage());
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository, never()).findByIdAndCampaignIdAndCompanyId(any(), any(), any());
-        verify(jobOpeningRepository, never()).save(any(JobOpening.class));
+        verify(jobOpeningRepository, never()).updateFields(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -256,18 +579,195 @@ class JobOpeningServiceTest {
 
         EligibilityResponse eligibility = new EligibilityResponse(true, "");
         when(campaignServiceClient.checkEligibility(campaignId, companyId)).thenReturn(eligibility);
-        when(jobOpeningRepository.findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId))
+        when(jobOpeningRepository.updateFields(eq(jobId), eq(campaignId), eq(companyId), isNull(),
+                any(JobOpening.class)))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
-            jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request);
+            jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, null);
         });
 
         assertEquals("Job opening not found", exception.getMessage());
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository).findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
-        verify(jobOpeningRepository, never()).save(any(JobOpening.class));
+        verify(jobOpeningCache, never()).put(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateJobOpening_shouldConditionUpdateOnExpectedVersion() {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        stubUpdateFields(campaignId, companyId);
+
+        // Act
+        JobOpeningResponse result = jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, 3L);
+
+        // Assert
+        assertEquals(4L, result.getVersion());
+        verify(jobOpeningRepository).updateFields(eq(jobId), eq(campaignId), eq(companyId), eq(3L),
+                any(JobOpening.class));
+        verify(jobOpeningRepository, never()).existsByIdAndCampaignIdAndCompanyId(any(), any(), any());
+    }
+
+    @Test
+    void updateJobOpening_shouldThrowPreconditionFailedWhenVersionIsStale() {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.updateFields(eq(jobId), eq(campaignId), eq(companyId), eq(3L),
+                any(JobOpening.class)))
+                .thenReturn(Optional.empty());
+        when(jobOpeningRepository.existsByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId))
+                .thenReturn(true);
+
+        // Act & Assert
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, 3L));
+
+        assertEquals("Job opening has been modified", exception.getMessage());
+        verify(jobOpeningCache, never()).put(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateJobOpeningById_shouldThrowResourceNotFoundWhenConditionalUpdateFindsNoRow() {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+
+        when(jobOpeningRepository.updateFields(eq(jobId), isNull(), isNull(), eq(3L), any(JobOpening.class)))
+                .thenReturn(Optional.empty());
+        when(jobOpeningRepository.existsById(jobId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> jobOpeningService.updateJobOpeningById(jobId, request, 3L));
+    }
+
+    @Test
+    void listJobOpeningsByCampaigns_shouldGroupOnePageByCampaignInRequestOrder() {
+        // Arrange
+        UUID otherCampaignId = UUID.randomUUID();
+        UUID emptyCampaignId = UUID.randomUUID();
+        JobOpening other = new JobOpening();
+        other.setId(UUID.randomUUID());
+        other.setCampaignId(otherCampaignId);
+        other.setCompanyId(companyId);
+        other.setTitle("DevOps Engineer");
+        other.setCreatedAt(OffsetDateTime.now());
+        other.setUpdatedAt(OffsetDateTime.now());
+        List<UUID> campaignIds = List.of(otherCampaignId, emptyCampaignId, campaignId);
+        when(jobOpeningRepository.findByCampaignIdInAndCompanyIdOrderByCreatedAtAscIdAsc(
+                argThat(ids -> ids.containsAll(campaignIds) && ids.size() == 3), eq(companyId),
+                eq(PageRequest.ofSize(51))))
+                .thenReturn(List.of(jobOpening, other));
+
+        // Act
+        CursorPage<CampaignJobOpenings> result =
+                jobOpeningService.listJobOpeningsByCampaigns(campaignIds, companyId, null, null);
+
+        // Assert
+        assertEquals(List.of(otherCampaignId, campaignId),
+                result.getItems().stream().map(CampaignJobOpenings::getCampaignId).toList());
+        assertEquals("DevOps Engineer", result.getItems().get(0).getItems().get(0).getTitle());
+        assertEquals("Software Engineer", result.getItems().get(1).getItems().get(0).getTitle());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void listJobOpeningsByCampaigns_shouldRejectTooManyCampaigns() {
+        // Arrange
+        List<UUID> campaignIds = java.util.stream.Stream.generate(UUID::randomUUID).limit(51).toList();
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> jobOpeningService.listJobOpeningsByCampaigns(campaignIds, null, null, null));
+
+        assertEquals("At most 50 campaigns can be listed at once", exception.getMessage());
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void getListVersion_shouldAggregateOverRequestedScope() {
+        // Arrange
+        JobOpeningListVersion version = new JobOpeningListVersion(3, OffsetDateTime.now());
+        when(jobOpeningRepository.findListVersionByCompanyId(companyId)).thenReturn(version);
+
+        // Act
+        JobOpeningListVersion result = jobOpeningService.getListVersion(null, companyId);
+
+        // Assert
+        assertSame(version, result);
+        verify(jobOpeningRepository, never()).findListVersionByCampaignIdAndCompanyId(any(), any());
+    }
+
+    @Test
+    void getJobOpening_shouldServeRepeatedReadsFromCache() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobId)).thenReturn(Optional.of(jobOpening));
+
+        // Act
+        JobOpeningResponse first = jobOpeningService.getJobOpening(jobId);
+        JobOpeningResponse second = jobOpeningService.getJobOpening(jobId);
+
+        // Assert
+        assertEquals("Software Engineer", second.getTitle());
+        assertSame(first, second);
+        verify(jobOpeningRepository, times(1)).findById(jobId);
+    }
+
+    @Test
+    void getJobOpening_shouldNotCacheMissingJobOpening() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> jobOpeningService.getJobOpening(jobId));
+        assertThrows(ResourceNotFoundException.class, () -> jobOpeningService.getJobOpening(jobId));
+        verify(jobOpeningRepository, times(2)).findById(jobId);
+    }
+
+    @Test
+    void getJobOpening_shouldReturnUpdatedStateAfterUpdate() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobId)).thenReturn(Optional.of(jobOpening));
+        stubUpdateFields(null, null);
+        jobOpeningService.getJobOpening(jobId);
+
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Staff Engineer");
+
+        // Act
+        jobOpeningService.updateJobOpeningById(jobId, request, null);
+        JobOpeningResponse result = jobOpeningService.getJobOpening(jobId);
+
+        // Assert
+        assertEquals("Staff Engineer", result.getTitle());
+    }
+
+    @Test
+    void getJobOpening_shouldReloadAfterDelete() {
+        // Arrange
+        when(jobOpeningRepository.findById(jobId)).thenReturn(Optional.of(jobOpening));
+        when(jobOpeningRepository.deleteReturningScope(jobId))
+                .thenReturn(Optional.of(new JobOpeningScope(campaignId, companyId)));
+        jobOpeningService.getJobOpening(jobId);
+        jobOpeningService.deleteJobOpeningById(jobId);
+        when(jobOpeningRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> jobOpeningService.getJobOpening(jobId));
+        verify(jobOpeningCache).evict(jobId);
     }
 
     @Test
@@ -275,16 +775,16 @@ class JobOpeningServiceTest {
         // Arrange
         EligibilityResponse eligibility = new EligibilityResponse(true, "");
         when(campaignServiceClient.checkEligibility(campaignId, companyId)).thenReturn(eligibility);
-        when(jobOpeningRepository.findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId))
-                .thenReturn(Optional.of(jobOpening));
+        when(jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)).thenReturn(1);
 
         // Act
         jobOpeningService.deleteJobOpening(campaignId, companyId, jobId);
 
         // Assert
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository).findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
-        verify(jobOpeningRepository).delete(jobOpening);
+        verify(jobOpeningRepository).deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
+        verify(eventPublisher).publishEvent(new JobOpeningChangedEvent(jobId, campaignId, companyId,
+                JobOpeningChangedEvent.Type.DELETED));
     }
 
     @Test
@@ -300,8 +800,7 @@ class JobOpeningServiceTest {
 
         assertEquals("Company deadline has passed", exception.getMessage());
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository, never()).findByIdAndCampaignIdAndCompanyId(any(), any(), any());
-        verify(jobOpeningRepository, never()).delete(any(JobOpening.class));
+        verify(jobOpeningRepository, never()).deleteByIdAndCampaignIdAndCompanyId(any(), any(), any());
     }
 
     @Test
@@ -309,8 +808,7 @@ class JobOpeningServiceTest {
         // Arrange
         EligibilityResponse eligibility = new EligibilityResponse(true, "");
         when(campaignServiceClient.checkEligibility(campaignId, companyId)).thenReturn(eligibility);
-        when(jobOpeningRepository.findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId))
-                .thenReturn(Optional.empty());
+        when(jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)).thenReturn(0);
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -319,7 +817,207 @@ class JobOpeningServiceTest {
 
         assertEquals("Job opening not found", exception.getMessage());
         verify(campaignServiceClient).checkEligibility(campaignId, companyId);
-        verify(jobOpeningRepository).findByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
-        verify(jobOpeningRepository, never()).delete(any(JobOpening.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateJobOpening_shouldPreferEligibilityFailureOverMissingJob() {
+        // Arrange
+        JobOpeningUpdateRequest request = new JobOpeningUpdateRequest();
+        request.setTitle("Senior Software Engineer");
+        request.setDescription("Lead software development");
+
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(false, "Campaign is locked"));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            jobOpeningService.updateJobOpening(campaignId, companyId, jobId, request, null);
+        });
+
+        assertEquals("Campaign is locked", exception.getMessage());
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void deleteJobOpeningById_shouldDeleteWithoutLoadingAndPublishScopeOfDeletedRow() {
+        // Arrange
+        when(jobOpeningRepository.deleteReturningScope(jobId))
+                .thenReturn(Optional.of(new JobOpeningScope(campaignId, companyId)));
+
+        // Act
+        jobOpeningService.deleteJobOpeningById(jobId);
+
+        // Assert
+        verify(jobOpeningRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new JobOpeningChangedEvent(jobId, campaignId, companyId,
+                JobOpeningChangedEvent.Type.DELETED));
+    }
+
+    @Test
+    void deleteJobOpeningById_shouldThrowResourceNotFoundExceptionWhenNothingWasDeleted() {
+        // Arrange
+        when(jobOpeningRepository.deleteReturningScope(jobId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> jobOpeningService.deleteJobOpeningById(jobId));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deleteJobOpening_shouldCheckEligibilityOfScopeReadForUnscopedDelete() {
+        // Arrange
+        when(jobOpeningRepository.findScopeById(jobId))
+                .thenReturn(Optional.of(new JobOpeningScope(campaignId, companyId)));
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)).thenReturn(1);
+
+        // Act
+        jobOpeningService.deleteJobOpening(jobId);
+
+        // Assert
+        verify(jobOpeningRepository, never()).findById(any());
+        verify(jobOpeningRepository).deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId);
+    }
+
+    @Test
+    void deleteJobOpenings_shouldDeleteAllInOneStatementAfterOneEligibilityCheck() {
+        // Arrange
+        UUID otherJobId = UUID.randomUUID();
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.deleteAllReturningIds(campaignId, companyId))
+                .thenReturn(List.of(jobId, otherJobId));
+
+        // Act
+        JobOpeningBulkDeleteResponse result = jobOpeningService.deleteJobOpenings(campaignId, companyId, false);
+
+        // Assert
+        assertEquals(2, result.getDeletedCount());
+        assertFalse(result.isDryRun());
+        verify(campaignServiceClient, times(1)).checkEligibility(campaignId, companyId);
+        verify(jobOpeningCache).evict(jobId);
+        verify(jobOpeningCache).evict(otherJobId);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(eventPublisher).publishEvent(new JobOpeningsDeletedEvent(campaignId, companyId,
+                List.of(jobId, otherJobId)));
+    }
+
+    @Test
+    void deleteJobOpenings_shouldOnlyCountInDryRun() {
+        // Arrange
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(true, ""));
+        when(jobOpeningRepository.countByCampaignIdAndCompanyId(campaignId, companyId)).thenReturn(3L);
+
+        // Act
+        JobOpeningBulkDeleteResponse result = jobOpeningService.deleteJobOpenings(campaignId, companyId, true);
+
+        // Assert
+        assertEquals(3, result.getDeletedCount());
+        assertTrue(result.isDryRun());
+        verify(jobOpeningRepository, never()).deleteAllReturningIds(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deleteJobOpenings_shouldNotDeleteAnythingWhenNotEligible() {
+        // Arrange
+        when(campaignServiceClient.checkEligibility(campaignId, companyId))
+                .thenReturn(new EligibilityResponse(false, "Campaign is locked"));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> jobOpeningService.deleteJobOpenings(campaignId, companyId, false));
+
+        assertEquals("Campaign is locked", exception.getMessage());
+        verifyNoInteractions(jobOpeningRepository);
+    }
+
+    @Test
+    void createJobOpeningAsync_shouldCreateJobOpeningWhenEligible() {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+
+        when(campaignServiceClient.checkEligibilityAsync(campaignId, companyId))
+                .thenReturn(Mono.just(new EligibilityResponse(true, "")));
+        when(jobOpeningRepository.save(any(JobOpening.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        JobOpeningResponse result = jobOpeningService.createJobOpeningAsync(campaignId, companyId, request).join();
+
+        // Assert
+        assertEquals("Software Engineer", result.getTitle());
+        assertEquals(campaignId, result.getCampaignId());
+        verify(campaignServiceClient, never()).checkEligibility(any(), any());
+        verify(jobOpeningRepository).save(any(JobOpening.class));
+    }
+
+    @Test
+    void createJobOpeningAsync_shouldFailWithBusinessExceptionWhenNotEligible() {
+        // Arrange
+        JobOpeningCreateRequest request = new JobOpeningCreateRequest();
+        request.setTitle("Software Engineer");
+        request.setDescription("Develop software");
+
+        when(campaignServiceClient.checkEligibilityAsync(campaignId, companyId))
+                .thenReturn(Mono.just(new EligibilityResponse(false, "Campaign is locked")));
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> jobOpeningService.createJobOpeningAsync(campaignId, companyId, request).join());
+
+        assertInstanceOf(BusinessException.class, exception.getCause());
+        assertEquals("Campaign is locked", exception.getCause().getMessage());
+        verify(jobOpeningRepository, never()).save(any(JobOpening.class));
+    }
+
+    @Test
+    void deleteJobOpeningAsync_shouldFailWithResourceNotFoundExceptionWhenJobNotFound() {
+        // Arrange
+        when(campaignServiceClient.checkEligibilityAsync(campaignId, companyId))
+                .thenReturn(Mono.just(new EligibilityResponse(true, "")));
+        when(jobOpeningRepository.deleteByIdAndCampaignIdAndCompanyId(jobId, campaignId, companyId)).thenReturn(0);
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> jobOpeningService.deleteJobOpeningAsync(campaignId, companyId, jobId).join());
+
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
+        verify(jobOpeningCache, never()).evict(any());
+    }
+
+    /**
+     * Answers updateFields like the database would: the new values come back with
+     * the id, scope and creation time of the existing row and the next version.
+     */
+    private void stubUpdateFields(UUID scopeCampaignId, UUID scopeCompanyId) {
+        when(jobOpeningRepository.updateFields(eq(jobId), eq(scopeCampaignId), eq(scopeCompanyId), any(),
+                any(JobOpening.class)))
+                .thenAnswer(invocation -> {
+                    Long expectedVersion = invocation.getArgument(3);
+                    JobOpening values = invocation.getArgument(4);
+                    values.setId(jobId);
+                    values.setCampaignId(campaignId);
+                    values.setCompanyId(companyId);
+                    values.setCreatedAt(jobOpening.getCreatedAt());
+                    values.setVersion(expectedVersion == null ? 1L : expectedVersion + 1);
+                    return Optional.of(values);
+                });
+    }
+
+    private JobOpening createJobOpening(OffsetDateTime createdAt) {
+        JobOpening other = new JobOpening();
+        other.setId(UUID.randomUUID());
+        other.setCampaignId(campaignId);
+        other.setCompanyId(companyId);
+        other.setTitle("Data Engineer");
+        other.setDescription("Build pipelines");
+        other.setCreatedAt(createdAt);
+        other.setUpdatedAt(createdAt);
+        return other;
     }
 }